@@ -0,0 +1,402 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.StampedLock;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded {@link org.springframework.cache.Cache} for values keyed by OrientDB record IDs.
+ *
+ * <p>Record IDs are packed into a primitive {@code long} made of the cluster ID (upper 16 bits) and the cluster
+ * position (lower 48 bits), so entries don't hold boxed or string keys. The cache is split into a power-of-two number
+ * of segments, each a fixed-size open-addressing table of parallel {@code long} key and value arrays allocated once.
+ * Lookups read optimistically through a {@link StampedLock} and only fall back to a read lock when racing with a
+ * write; writes lock their segment only.</p>
+ *
+ * <p>When a segment reaches its share of the maximum size, an entry is evicted using the CLOCK algorithm: a hand
+ * sweeps the table, giving recently read entries a second chance by clearing their reference bit, and evicts the
+ * first entry found without one.</p>
+ *
+ * <p>Keys may be given as {@link ORID}, as their string form (e.g. {@code "#12:34"}) or as an already packed
+ * {@link Long}. {@link org.springframework.data.orientdb.core.OrientDBEntityCache} uses the primitive-keyed methods
+ * directly.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class RidCache extends AbstractValueAdaptingCache {
+
+    private static final long POSITION_MASK = (1L << 48) - 1;
+
+    private final String name;
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * Creates a new {@link RidCache} with the given maximum number of entries and one segment per available
+     * processor, rounded up to a power of two.
+     *
+     * @param name the cache name
+     * @param maximumSize the maximum number of entries
+     */
+    public RidCache(String name, int maximumSize) {
+        this(name, maximumSize, Runtime.getRuntime().availableProcessors() * 4, true);
+    }
+
+    /**
+     * Creates a new {@link RidCache}.
+     *
+     * @param name the cache name
+     * @param maximumSize the maximum number of entries
+     * @param concurrencyLevel the minimum number of segments, rounded up to a power of two
+     * @param allowNullValues whether to accept and store {@literal null} values
+     */
+    public RidCache(String name, int maximumSize, int concurrencyLevel, boolean allowNullValues) {
+        super(allowNullValues);
+        Assert.hasText(name, "Name must not be empty");
+        Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+        Assert.isTrue(concurrencyLevel > 0, "Concurrency level must be greater than zero");
+
+        int segmentCount = Math.min(Integer.highestOneBit(Math.max(1, maximumSize / 16)),
+            ceilingPowerOfTwo(concurrencyLevel));
+        int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+
+        this.name = name;
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * Pack the given record ID into a primitive cache key.
+     *
+     * @param rid the record ID
+     * @return the packed key
+     */
+    public static long pack(ORID rid) {
+        return ((long) rid.getClusterId() << 48) | (rid.getClusterPosition() & POSITION_MASK);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    /**
+     * Look up the value stored for the given record ID.
+     *
+     * @param rid the record ID
+     * @return the stored value (possibly the null value marker), or {@literal null} if absent
+     */
+    public Object lookup(ORID rid) {
+        return lookup(pack(rid));
+    }
+
+    /**
+     * Store a value for the given record ID, evicting another entry if the segment is full.
+     *
+     * @param rid the record ID
+     * @param value the value
+     */
+    public void put(ORID rid, Object value) {
+        long key = pack(rid);
+        segmentFor(key).put(key, toStoreValue(value));
+    }
+
+    /**
+     * Evict the value stored for the given record ID.
+     *
+     * @param rid the record ID
+     */
+    public void evict(ORID rid) {
+        long key = pack(rid);
+        segmentFor(key).remove(key);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return lookup(toKey(key));
+    }
+
+    private Object lookup(long key) {
+        return segmentFor(key).get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long packed = toKey(key);
+        Segment segment = segmentFor(packed);
+        Object value = segment.get(packed);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+
+        // Load under the segment write lock so that concurrent callers load once
+        long stamp = segment.lock.writeLock();
+        try {
+            value = segment.find(packed);
+            if (value == null) {
+                T loaded;
+                try {
+                    loaded = valueLoader.call();
+                } catch (Exception ex) {
+                    throw new ValueRetrievalException(key, valueLoader, ex);
+                }
+                segment.putLocked(packed, toStoreValue(loaded));
+                return loaded;
+            }
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long packed = toKey(key);
+        segmentFor(packed).put(packed, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        long packed = toKey(key);
+        segmentFor(packed).remove(packed);
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held.
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long key) {
+        return segments.length == 1 ? segments[0] : segments[(int) (mix(key) >>> segmentShift)];
+    }
+
+    private static long toKey(Object key) {
+        if (key instanceof ORID rid) {
+            return pack(rid);
+        } else if (key instanceof String rid) {
+            return pack(new ORecordId(rid));
+        } else if (key instanceof Long packed) {
+            return packed;
+        }
+        throw new IllegalArgumentException("Unsupported cache key " + key + ", expected a record ID");
+    }
+
+    private static long mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Fixed-size open-addressing table with linear probing, backward-shift deletion and CLOCK eviction.
+     */
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private final long[] keys;
+        private final Object[] values;
+        private final byte[] referenced;
+        private final int mask;
+        private final int maximumSize;
+        private int size;
+        private int hand;
+
+        Segment(int maximumSize) {
+            // Keep the load factor at or below 0.75
+            int capacity = ceilingPowerOfTwo(Math.max(2, maximumSize + maximumSize / 3 + 1));
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.referenced = new byte[capacity];
+            this.mask = capacity - 1;
+            this.maximumSize = maximumSize;
+        }
+
+        Object get(long key) {
+            long stamp = lock.tryOptimisticRead();
+            Object value = find(key);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = find(key);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Probe for the given key, marking a found entry as recently used. Requires a lock or a validated
+         * optimistic read.
+         */
+        Object find(long key) {
+            int index = (int) mix(key) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                Object value = values[index];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[index] == key) {
+                    referenced[index] = 1;
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        void put(long key, Object value) {
+            long stamp = lock.writeLock();
+            try {
+                putLocked(key, value);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void putLocked(long key, Object value) {
+            int index = indexOf(key);
+            if (index >= 0) {
+                values[index] = value;
+                referenced[index] = 1;
+                return;
+            }
+
+            if (size >= maximumSize) {
+                evictOne();
+            }
+
+            index = (int) mix(key) & mask;
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+            referenced[index] = 0;
+            size++;
+        }
+
+        void remove(long key) {
+            long stamp = lock.writeLock();
+            try {
+                int index = indexOf(key);
+                if (index >= 0) {
+                    removeAt(index);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                Arrays.fill(values, null);
+                Arrays.fill(referenced, (byte) 0);
+                size = 0;
+                hand = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int indexOf(long key) {
+            int index = (int) mix(key) & mask;
+            while (values[index] != null) {
+                if (keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Advance the CLOCK hand to the first entry without reference bit and evict it.
+         */
+        private void evictOne() {
+            while (true) {
+                int index = hand;
+                hand = (hand + 1) & mask;
+                if (values[index] != null) {
+                    if (referenced[index] != 0) {
+                        referenced[index] = 0;
+                    } else {
+                        removeAt(index);
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Remove the entry at the given slot, shifting following entries of the probe sequence back so that no
+         * tombstones are needed.
+         */
+        private void removeAt(int index) {
+            int gap = index;
+            int next = (gap + 1) & mask;
+            while (values[next] != null) {
+                int home = (int) mix(keys[next]) & mask;
+                // Move the entry if its home slot does not lie cyclically in (gap, next]
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    referenced[gap] = referenced[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            values[gap] = null;
+            referenced[gap] = 0;
+            size--;
+        }
+    }
+
+}
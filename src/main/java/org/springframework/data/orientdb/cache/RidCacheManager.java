@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.orientdb.core.OrientDBEntityCache;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheManager} providing a bounded {@link RidCache} for the entity snapshot cache
+ * ({@value OrientDBEntityCache#CACHE_NAME}). All other caches, such as the query result cache, are plain
+ * {@link ConcurrentMapCache}s created on demand.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ * @see org.springframework.data.orientdb.config.EnableOrientDBCaching#cacheType()
+ */
+public class RidCacheManager implements CacheManager {
+
+    /**
+     * Default maximum number of cached entity snapshots.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private final RidCache entityCache;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link RidCacheManager} holding up to {@value #DEFAULT_MAXIMUM_SIZE} entity snapshots.
+     */
+    public RidCacheManager() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new {@link RidCacheManager} holding up to the given number of entity snapshots.
+     *
+     * @param maximumSize the maximum number of entity snapshots
+     */
+    public RidCacheManager(int maximumSize) {
+        Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+        this.entityCache = new RidCache(OrientDBEntityCache.CACHE_NAME, maximumSize);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (OrientDBEntityCache.CACHE_NAME.equals(name)) {
+            return entityCache;
+        }
+        return caches.computeIfAbsent(name, ConcurrentMapCache::new);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>();
+        names.add(OrientDBEntityCache.CACHE_NAME);
+        names.addAll(caches.keySet());
+        return Collections.unmodifiableSet(names);
+    }
+
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.orientdb.config;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabasePool;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.ODatabaseType;
@@ -25,10 +26,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.orientdb.core.OrientDBMappingContext;
+import org.springframework.data.orientdb.core.OrientDBPoolWarmer;
 import org.springframework.data.orientdb.core.OrientDBTemplate;
 import org.springframework.data.orientdb.core.schema.SchemaGenerator;
+import org.springframework.data.orientdb.observability.InstrumentedDatabasePool;
 import org.springframework.data.orientdb.repository.config.EnableOrientDBRepositories;
+import org.springframework.data.orientdb.repository.support.OrientDBAsyncExecutors;
+import org.springframework.util.ClassUtils;
 
 /**
  * Base class for Spring Data OrientDB configuration using JavaConfig.
@@ -71,6 +77,8 @@ public abstract class AbstractOrientDBConfiguration implements InitializingBean
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractOrientDBConfiguration.class);
 
+    private static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
     /**
      * Returns the {@link OrientDB} instance to use for database access.
      * Must be implemented by subclasses.
@@ -139,6 +147,33 @@ public abstract class AbstractOrientDBConfiguration implements InitializingBean
         return ODatabaseType.PLOCAL;
     }
 
+    /**
+     * Returns whether the pool publishes Micrometer metrics on session usage and acquire times if Micrometer is on
+     * the classpath. The metrics are registered by {@link EnableOrientDBObservability}.
+     * Override to customize.
+     *
+     * @return true to instrument the pool (default: true)
+     * @since 1.6.0
+     * @see InstrumentedDatabasePool
+     */
+    protected boolean isPoolInstrumented() {
+        return true;
+    }
+
+    /**
+     * Returns the pool configuration, applying {@link #getPoolMin()} and {@link #getPoolMax()}.
+     * Override to customize further, e.g. the acquire timeout.
+     *
+     * @return the pool configuration
+     * @since 1.6.0
+     */
+    protected OrientDBConfig getPoolConfig() {
+        return OrientDBConfig.builder()
+            .addConfig(OGlobalConfiguration.DB_POOL_MIN, getPoolMin())
+            .addConfig(OGlobalConfiguration.DB_POOL_MAX, getPoolMax())
+            .build();
+    }
+
     /**
      * Creates the {@link ODatabasePool} bean for connection pooling.
      *
@@ -154,7 +189,12 @@ public abstract class AbstractOrientDBConfiguration implements InitializingBean
             orientDB.create(databaseName, getDatabaseType());
         }
 
-        return new ODatabasePool(orientDB, databaseName, getUsername(), getPassword());
+        OrientDBConfig poolConfig = getPoolConfig();
+        if (isPoolInstrumented() && ClassUtils.isPresent(METER_REGISTRY_CLASS, getClass().getClassLoader())) {
+            return InstrumentedDatabasePools.create(orientDB, databaseName, getUsername(), getPassword(), poolConfig,
+                getPoolMax());
+        }
+        return new ODatabasePool(orientDB, databaseName, getUsername(), getPassword(), poolConfig);
     }
 
     /**
@@ -177,6 +217,56 @@ public abstract class AbstractOrientDBConfiguration implements InitializingBean
         return new OrientDBTemplate(databasePool(), orientDBMappingContext());
     }
 
+    /**
+     * Returns whether to warm up the pool on startup, see {@link OrientDBPoolWarmer}.
+     * Override to customize.
+     *
+     * @return true to warm up the pool (default: true)
+     * @since 1.6.0
+     */
+    protected boolean isWarmUpPool() {
+        return true;
+    }
+
+    /**
+     * Returns a query run once per vertex class of the persistent entities during warm-up, {@code %s} is replaced by
+     * the vertex class name. Override to customize.
+     *
+     * @return the warm-up query format (default: none)
+     * @since 1.6.0
+     */
+    protected String getWarmUpQuery() {
+        return null;
+    }
+
+    /**
+     * Creates the {@link OrientDBPoolWarmer} bean opening {@link #getPoolMin()} sessions and preparing the entity
+     * metadata once all singletons are created.
+     *
+     * @return the pool warmer
+     * @since 1.6.0
+     */
+    @Bean
+    public OrientDBPoolWarmer orientDBPoolWarmer() {
+        OrientDBPoolWarmer warmer = new OrientDBPoolWarmer(databasePool(), orientDBTemplate(), getPoolMin());
+        warmer.setEnabled(isWarmUpPool());
+        warmer.setWarmUpQuery(getWarmUpQuery());
+        return warmer;
+    }
+
+    /**
+     * Creates the executor running the operations of async repositories, running at most {@link #getPoolMax()}
+     * tasks at once so that it matches the database pool.
+     *
+     * @return the async repository executor
+     * @since 1.6.0
+     * @see OrientDBAsyncExecutors#create(int)
+     */
+    @Bean(OrientDBAsyncExecutors.BEAN_NAME)
+    public AsyncTaskExecutor orientDBAsyncExecutor() {
+        return OrientDBAsyncExecutors.create(getPoolMax());
+    }
+
     /**
      * Returns whether to automatically generate schema from entities.
      * Override to customize.
@@ -196,5 +286,17 @@ public abstract class AbstractOrientDBConfiguration implements InitializingBean
         // Applications can implement ApplicationRunner for schema initialization
     }
 
+    /**
+     * Creates instrumented pools. Kept separate so that this configuration does not link against Micrometer unless
+     * it is present.
+     */
+    private static final class InstrumentedDatabasePools {
+
+        static ODatabasePool create(OrientDB orientDB, String databaseName, String username, String password,
+                OrientDBConfig configuration, int maxSize) {
+            return new InstrumentedDatabasePool(orientDB, databaseName, username, password, configuration, maxSize);
+        }
+    }
+
 }
 
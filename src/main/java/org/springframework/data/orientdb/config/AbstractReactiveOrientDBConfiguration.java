@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.orientdb.core.ReactiveOrientDBTemplate;
+
+/**
+ * Base class for Spring Data OrientDB configuration using JavaConfig with reactive repositories. Adds the
+ * {@link ReactiveOrientDBTemplate} bean to the beans of {@link AbstractOrientDBConfiguration}, so imperative and
+ * reactive repositories may be used side by side.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * &#64;Configuration
+ * &#64;EnableReactiveOrientDBRepositories(basePackages = "com.example.repository")
+ * public class OrientDBConfig extends AbstractReactiveOrientDBConfiguration {
+ *     // ...
+ * }
+ * </pre>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ * @see org.springframework.data.orientdb.repository.config.EnableReactiveOrientDBRepositories
+ */
+@Configuration
+public abstract class AbstractReactiveOrientDBConfiguration extends AbstractOrientDBConfiguration {
+
+    /**
+     * Creates the {@link ReactiveOrientDBTemplate} bean, running at most {@link #getPoolMax()} operations at once on a
+     * scheduler with as many threads, so that reactive operations do not wait for sessions of the pool.
+     *
+     * @return the reactive OrientDB template
+     */
+    @Bean
+    public ReactiveOrientDBTemplate reactiveOrientDBTemplate() {
+        return new ReactiveOrientDBTemplate(orientDBTemplate(), getPoolMax());
+    }
+
+}
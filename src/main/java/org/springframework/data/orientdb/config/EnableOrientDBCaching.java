@@ -17,6 +17,7 @@ package org.springframework.data.orientdb.config;
 
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.orientdb.cache.RidCacheManager;
 
 import java.lang.annotation.*;
 
@@ -35,6 +36,9 @@ import java.lang.annotation.*;
  * }
  * </pre>
  *
+ * <p>Large entity caches should use {@code @EnableOrientDBCaching(cacheType = CacheType.RID, maximumSize = ...)},
+ * which bounds the entity snapshot cache and avoids boxed record ID keys.</p>
+ *
  * @author Spring Data OrientDB Team
  * @since 1.5.0
  */
@@ -51,5 +55,39 @@ public @interface EnableOrientDBCaching {
      * Default includes "orientdb-entities" and "orientdb-queries".
      */
     String[] cacheNames() default {"orientdb-entities", "orientdb-queries"};
+
+    /**
+     * The kind of cache manager to register as {@code orientDBCacheManager}. Defaults to
+     * {@link CacheType#CONCURRENT_MAP}.
+     *
+     * @since 1.6.0
+     */
+    CacheType cacheType() default CacheType.CONCURRENT_MAP;
+
+    /**
+     * Maximum number of entity snapshots held by a {@link CacheType#RID} cache.
+     *
+     * @since 1.6.0
+     */
+    int maximumSize() default RidCacheManager.DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Kinds of cache managers available for OrientDB caching.
+     *
+     * @since 1.6.0
+     */
+    enum CacheType {
+
+        /**
+         * Unbounded {@link org.springframework.cache.concurrent.ConcurrentMapCacheManager}.
+         */
+        CONCURRENT_MAP,
+
+        /**
+         * {@link RidCacheManager} holding entity snapshots in a bounded {@link org.springframework.data.orientdb.cache.RidCache}
+         * keyed by primitive record IDs, with CLOCK eviction once {@link #maximumSize()} is reached.
+         */
+        RID
+    }
 }
 
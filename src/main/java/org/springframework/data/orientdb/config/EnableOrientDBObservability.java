@@ -36,6 +36,17 @@ import java.lang.annotation.*;
  *   <li>orientdb.repository.query.time - Timer for query operation duration</li>
  * </ul>
  *
+ * <p>Timers are tagged with {@code entity}, {@code method} and {@code outcome} and publish the 50th, 95th and 99th
+ * percentiles. Template operations use the operation name as method, e.g. {@code findById}, repository query
+ * methods use {@code Repository.method}.</p>
+ *
+ * <p>Additionally registers {@link org.springframework.data.orientdb.observability.OrientDBQueryStatistics},
+ * aggregating template queries per fingerprint and logging queries slower than {@link #slowQueryThreshold()}.
+ * It is exported as a JMX MBean when MBean export is enabled.</p>
+ *
+ * <p>Pools created by {@link AbstractOrientDBConfiguration} publish session usage, pending acquires, acquire times
+ * and acquire timeouts, see {@link org.springframework.data.orientdb.observability.InstrumentedDatabasePool}.</p>
+ *
  * <p>Example usage:</p>
  * <pre>
  * &#64;Configuration
@@ -55,5 +66,12 @@ import java.lang.annotation.*;
 @Inherited
 @Import(OrientDBObservabilityConfiguration.class)
 public @interface EnableOrientDBObservability {
+
+    /**
+     * Threshold in milliseconds above which queries are logged as slow, a negative value disables slow query logging.
+     *
+     * @since 1.6.0
+     */
+    long slowQueryThreshold() default 500;
 }
 
@@ -15,10 +15,20 @@
  */
 package org.springframework.data.orientdb.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.orientdb.cache.RidCacheManager;
+import org.springframework.data.orientdb.core.OrientDBEntityCache;
+import org.springframework.data.orientdb.core.OrientDBQueryResultCache;
+import org.springframework.data.orientdb.core.OrientDBTemplate;
 
 /**
  * Configuration for OrientDB caching support.
@@ -28,11 +38,25 @@ import org.springframework.context.annotation.Configuration;
  * @since 1.5.0
  */
 @Configuration
-public class OrientDBCachingConfiguration {
+public class OrientDBCachingConfiguration implements ImportAware {
+
+    private EnableOrientDBCaching.CacheType cacheType = EnableOrientDBCaching.CacheType.CONCURRENT_MAP;
+    private int maximumSize = RidCacheManager.DEFAULT_MAXIMUM_SIZE;
+
+    @Override
+    public void setImportMetadata(AnnotationMetadata importMetadata) {
+        AnnotationAttributes attributes = AnnotationAttributes.fromMap(
+            importMetadata.getAnnotationAttributes(EnableOrientDBCaching.class.getName()));
+        if (attributes != null) {
+            this.cacheType = attributes.getEnum("cacheType");
+            this.maximumSize = attributes.getNumber("maximumSize");
+        }
+    }
     
     /**
      * Creates a default CacheManager for OrientDB operations.
-     * Uses ConcurrentHashMap-based caching by default.
+     * Uses ConcurrentHashMap-based caching by default, or a {@link RidCacheManager} if selected through
+     * {@link EnableOrientDBCaching#cacheType()}.
      * 
      * Applications can override this bean to provide custom cache implementations
      * (e.g., Redis, Caffeine, etc.)
@@ -41,7 +65,63 @@ public class OrientDBCachingConfiguration {
      */
     @Bean
     public CacheManager orientDBCacheManager() {
-        return new ConcurrentMapCacheManager("orientdb-entities", "orientdb-queries");
+        if (cacheType == EnableOrientDBCaching.CacheType.RID) {
+            return new RidCacheManager(maximumSize);
+        }
+        return new ConcurrentMapCacheManager(OrientDBEntityCache.CACHE_NAME, OrientDBQueryResultCache.CACHE_NAME);
     }
-}
 
+    /**
+     * Creates the cache for results of {@link org.springframework.data.orientdb.repository.query.CachedQuery}
+     * repository methods, backed by the {@value OrientDBQueryResultCache#CACHE_NAME} cache of the unique or primary
+     * {@link CacheManager}, falling back to {@link #orientDBCacheManager()}.
+     *
+     * @param cacheManagers the available cache managers
+     * @return the query result cache
+     * @since 1.6.0
+     */
+    @Bean
+    public OrientDBQueryResultCache orientDBQueryResultCache(ObjectProvider<CacheManager> cacheManagers) {
+        CacheManager cacheManager = cacheManagers.getIfUnique(this::orientDBCacheManager);
+        Cache cache = cacheManager.getCache(OrientDBQueryResultCache.CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("No cache named '" + OrientDBQueryResultCache.CACHE_NAME + "' available");
+        }
+        return new OrientDBQueryResultCache(cache);
+    }
+
+    /**
+     * Enables the second-level entity cache and query result invalidation on all {@link OrientDBTemplate} beans once
+     * all singletons are created.
+     * Snapshots are stored in the {@value OrientDBEntityCache#CACHE_NAME} cache of the unique or primary
+     * {@link CacheManager}, falling back to {@link #orientDBCacheManager()}. To bound the cache, e.g. with Caffeine,
+     * declare a primary {@link CacheManager} providing that cache.
+     *
+     * @param templates the templates to enable the cache on
+     * @param cacheManagers the available cache managers
+     * @param queryResultCache the query result cache
+     * @return the initializer
+     * @since 1.6.0
+     */
+    @Bean
+    public SmartInitializingSingleton orientDBEntityCacheInitializer(
+            ObjectProvider<OrientDBTemplate> templates,
+            ObjectProvider<CacheManager> cacheManagers,
+            ObjectProvider<OrientDBQueryResultCache> queryResultCache) {
+        return () -> {
+            CacheManager cacheManager = cacheManagers.getIfUnique(this::orientDBCacheManager);
+            Cache cache = cacheManager.getCache(OrientDBEntityCache.CACHE_NAME);
+            if (cache != null) {
+                OrientDBEntityCache entityCache = new OrientDBEntityCache(cache);
+                templates.orderedStream()
+                    .filter(template -> template.getEntityCache() == null)
+                    .forEach(template -> template.setEntityCache(entityCache));
+            }
+
+            // Templates invalidate the results cached by repository query methods
+            queryResultCache.ifAvailable(resultCache -> templates.orderedStream()
+                .filter(template -> template.getQueryResultCache() == null)
+                .forEach(template -> template.setQueryResultCache(resultCache)));
+        };
+    }
+}
@@ -15,11 +15,22 @@
  */
 package org.springframework.data.orientdb.config;
 
+import java.time.Duration;
+
+import com.orientechnologies.orient.core.db.ODatabasePool;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.orientdb.core.OrientDBTemplate;
+import org.springframework.data.orientdb.observability.InstrumentedDatabasePool;
 import org.springframework.data.orientdb.observability.OrientDBMetrics;
+import org.springframework.data.orientdb.observability.OrientDBQueryStatistics;
 
 /**
  * Configuration for OrientDB observability support.
@@ -30,7 +41,18 @@ import org.springframework.data.orientdb.observability.OrientDBMetrics;
  */
 @Configuration
 @ConditionalOnClass(MeterRegistry.class)
-public class OrientDBObservabilityConfiguration {
+public class OrientDBObservabilityConfiguration implements ImportAware {
+
+    private long slowQueryThreshold = OrientDBQueryStatistics.DEFAULT_SLOW_QUERY_THRESHOLD.toMillis();
+
+    @Override
+    public void setImportMetadata(AnnotationMetadata importMetadata) {
+        AnnotationAttributes attributes = AnnotationAttributes.fromMap(
+            importMetadata.getAnnotationAttributes(EnableOrientDBObservability.class.getName()));
+        if (attributes != null) {
+            this.slowQueryThreshold = attributes.getNumber("slowQueryThreshold").longValue();
+        }
+    }
     
     /**
      * Creates the OrientDB metrics bean if Micrometer is on the classpath.
@@ -42,5 +64,50 @@ public class OrientDBObservabilityConfiguration {
     public OrientDBMetrics orientDBMetrics(MeterRegistry meterRegistry) {
         return new OrientDBMetrics(meterRegistry);
     }
+
+    /**
+     * Creates the query statistics aggregating query executions per fingerprint and logging slow queries.
+     *
+     * @return the query statistics
+     * @since 1.6.0
+     */
+    @Bean
+    public OrientDBQueryStatistics orientDBQueryStatistics() {
+        OrientDBQueryStatistics statistics = new OrientDBQueryStatistics();
+        statistics.setSlowQueryThreshold(Duration.ofMillis(slowQueryThreshold));
+        return statistics;
+    }
+
+    /**
+     * Enables operation timing and query statistics on all {@link OrientDBTemplate} beans and binds
+     * {@link InstrumentedDatabasePool} metrics once all singletons are created.
+     *
+     * @param templates the templates to time
+     * @param metrics the metrics to record to
+     * @param queryStatistics the query statistics to record to
+     * @param pools the database pools to bind
+     * @param meterRegistry the Micrometer meter registry
+     * @return the initializer
+     * @since 1.6.0
+     */
+    @Bean
+    public SmartInitializingSingleton orientDBMetricsInitializer(
+            ObjectProvider<OrientDBTemplate> templates,
+            ObjectProvider<OrientDBMetrics> metrics,
+            ObjectProvider<OrientDBQueryStatistics> queryStatistics,
+            ObjectProvider<ODatabasePool> pools,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return () -> {
+            meterRegistry.ifUnique(registry -> pools.orderedStream()
+                .filter(InstrumentedDatabasePool.class::isInstance)
+                .forEach(pool -> ((InstrumentedDatabasePool) pool).bindTo(registry)));
+            metrics.ifUnique(orientDBMetrics -> templates.orderedStream()
+                .filter(template -> template.getMetrics() == null)
+                .forEach(template -> template.setMetrics(orientDBMetrics)));
+            queryStatistics.ifUnique(statistics -> templates.orderedStream()
+                .filter(template -> template.getQueryStatistics() == null)
+                .forEach(template -> template.setQueryStatistics(statistics)));
+        };
+    }
 }
 
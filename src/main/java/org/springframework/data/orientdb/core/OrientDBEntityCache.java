@@ -0,0 +1,333 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.core;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OVertex;
+import org.springframework.cache.Cache;
+import org.springframework.data.orientdb.cache.RidCache;
+import org.springframework.data.orientdb.core.convert.OrientDBEntityConverter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Second-level entity cache used by {@link OrientDBTemplate} for lookups by record ID.
+ *
+ * <p>Entries are keyed by the record ID and hold a detached snapshot of the record's properties along with its
+ * record version. Every lookup materializes a fresh entity from the snapshot, so callers never share instances.
+ * A snapshot never replaces a snapshot of a newer record version.</p>
+ *
+ * <p>Every eviction stamps the records it affects, tracked per stripe of record IDs. A snapshot is only stored if no
+ * eviction stamped its record after the load started, see {@link #getStamp()}, so a reader can't put back a version
+ * a concurrent writer has just evicted.</p>
+ *
+ * <p>Writes evict the affected records right away and once more after the surrounding transaction completes, so
+ * snapshots loaded concurrently before the commit don't survive it. Records written by the current transaction
+ * bypass the cache until then. Storage, eviction and size limits are those of the underlying Spring {@link Cache},
+ * e.g. a Caffeine cache.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class OrientDBEntityCache {
+
+    /**
+     * Name of the cache holding entity snapshots.
+     */
+    public static final String CACHE_NAME = "orientdb-entities";
+
+    private static final String VERSION_PROPERTY = "@version";
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final Cache cache;
+    private final RidCache ridCache;
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLongArray evictionStamps = new AtomicLongArray(STAMP_STRIPES);
+    private volatile long clearStamp;
+
+    /**
+     * Creates a new {@link OrientDBEntityCache} storing snapshots in the given {@link Cache}.
+     *
+     * @param cache must not be {@literal null}.
+     */
+    public OrientDBEntityCache(Cache cache) {
+        Assert.notNull(cache, "Cache must not be null");
+        this.cache = cache;
+        this.ridCache = cache instanceof RidCache rids ? rids : null;
+    }
+
+    /**
+     * Returns the underlying {@link Cache}.
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * Materialize the cached snapshot of the given record as an entity.
+     *
+     * @param rid the record ID
+     * @param entityClass the entity class
+     * @param converter the converter creating the entity
+     * @param <T> the entity type
+     * @return the entity, or {@literal null} if the record is not cached or was written by the current transaction
+     */
+    <T> T get(ORID rid, Class<T> entityClass, OrientDBEntityConverter converter) {
+        if (isWrittenInTransaction(rid)) {
+            return null;
+        }
+
+        EntitySnapshot snapshot = lookup(rid);
+        return snapshot != null ? converter.read(entityClass, rid, snapshot.copyProperties()) : null;
+    }
+
+    /**
+     * Returns whether a snapshot of the given record is cached, without materializing it.
+     *
+     * @param rid the record ID
+     * @return {@literal true} if the record is cached and was not written by the current transaction
+     */
+    boolean contains(ORID rid) {
+        return !isWrittenInTransaction(rid) && lookup(rid) != null;
+    }
+
+    /**
+     * Returns the current eviction stamp, to be obtained before loading records that are passed to
+     * {@link #put(OVertex, long)} afterwards.
+     *
+     * @return the stamp
+     */
+    long getStamp() {
+        return clock.get();
+    }
+
+    /**
+     * Store a snapshot of the given vertex unless the cache already holds the same or a newer record version, or the
+     * record was evicted since the given stamp.
+     *
+     * @param vertex the loaded vertex
+     * @param stamp the stamp obtained before the vertex was loaded
+     */
+    void put(OVertex vertex, long stamp) {
+        ORID rid = vertex.getIdentity();
+        if (!rid.isPersistent()) {
+            return;
+        }
+
+        if (isWrittenInTransaction(rid) || isEvictedSince(rid, stamp)) {
+            return;
+        }
+
+        EntitySnapshot existing = lookup(rid);
+        if (existing == null || existing.version < vertex.getVersion()) {
+            EntitySnapshot snapshot = EntitySnapshot.of(vertex);
+            if (ridCache != null) {
+                ridCache.put(rid, snapshot);
+            } else {
+                cache.put(rid.toString(), snapshot);
+            }
+
+            // Handle an eviction racing with this put, evictions stamp before they remove
+            if (isEvictedSince(rid, stamp)) {
+                removeNow(rid);
+            }
+        }
+    }
+
+    /**
+     * Evict the given record now and, within a transaction, again after the transaction completed.
+     *
+     * @param rid the written or deleted record ID
+     */
+    void evict(ORID rid) {
+        evictNow(rid);
+
+        PendingEvictions pending = getPendingEvictions();
+        if (pending != null) {
+            pending.rids.add(rid.copy());
+        }
+    }
+
+    /**
+     * Clear the cache now and, within a transaction, again after the transaction completed. Used after commands
+     * which may have changed arbitrary records.
+     */
+    void clear() {
+        clearNow();
+
+        PendingEvictions pending = getPendingEvictions();
+        if (pending != null) {
+            pending.clear = true;
+        }
+    }
+
+    private EntitySnapshot lookup(ORID rid) {
+        if (ridCache != null) {
+            Object value = ridCache.lookup(rid);
+            return value instanceof EntitySnapshot snapshot ? snapshot : null;
+        }
+        return cache.get(rid.toString(), EntitySnapshot.class);
+    }
+
+    private void evictNow(ORID rid) {
+        evictionStamps.set(stripe(rid), clock.incrementAndGet());
+        removeNow(rid);
+    }
+
+    private void clearNow() {
+        clearStamp = clock.incrementAndGet();
+        cache.clear();
+    }
+
+    private boolean isEvictedSince(ORID rid, long stamp) {
+        return clearStamp > stamp || evictionStamps.get(stripe(rid)) > stamp;
+    }
+
+    private static int stripe(ORID rid) {
+        return Math.floorMod(rid.hashCode(), STAMP_STRIPES);
+    }
+
+    private void removeNow(ORID rid) {
+        if (ridCache != null) {
+            ridCache.evict(rid);
+        } else {
+            cache.evict(rid.toString());
+        }
+    }
+
+    private boolean isWrittenInTransaction(ORID rid) {
+        PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        return pending != null && (pending.clear || pending.rids.contains(rid));
+    }
+
+    private PendingEvictions getPendingEvictions() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvictions();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * Records written by the current transaction, evicted again once it completed.
+     */
+    private final class PendingEvictions implements TransactionSynchronization {
+
+        private final Set<ORID> rids = new HashSet<>();
+        private boolean clear;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(OrientDBEntityCache.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(OrientDBEntityCache.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrientDBEntityCache.this);
+            if (clear) {
+                clearNow();
+            } else {
+                rids.forEach(OrientDBEntityCache.this::evictNow);
+            }
+        }
+    }
+
+    /**
+     * Detached copy of a record's properties at a given record version.
+     */
+    static final class EntitySnapshot implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int version;
+        private final Map<String, Object> properties;
+
+        private EntitySnapshot(int version, Map<String, Object> properties) {
+            this.version = version;
+            this.properties = properties;
+        }
+
+        static EntitySnapshot of(OVertex vertex) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (String name : vertex.getPropertyNames()) {
+                // Edge references are not part of the entity state
+                if (!name.startsWith("in_") && !name.startsWith("out_")) {
+                    properties.put(name, copy(vertex.getProperty(name)));
+                }
+            }
+            properties.put(VERSION_PROPERTY, vertex.getVersion());
+            return new EntitySnapshot(vertex.getVersion(), Collections.unmodifiableMap(properties));
+        }
+
+        Map<String, Object> copyProperties() {
+            Map<String, Object> copy = new LinkedHashMap<>(properties.size() * 2);
+            properties.forEach((name, value) -> copy.put(name, copy(value)));
+            return copy;
+        }
+
+        /**
+         * Copy mutable values so that neither the record nor callers can modify the snapshot.
+         */
+        private static Object copy(Object value) {
+            if (value instanceof Date date) {
+                return new Date(date.getTime());
+            } else if (value instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(list.size());
+                list.forEach(element -> copy.add(copy(element)));
+                return copy;
+            } else if (value instanceof Set<?> set) {
+                Set<Object> copy = new LinkedHashSet<>();
+                set.forEach(element -> copy.add(copy(element)));
+                return copy;
+            } else if (value instanceof Collection<?> collection) {
+                return new ArrayList<>(collection);
+            } else if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                map.forEach((key, element) -> copy.put(key, copy(element)));
+                return copy;
+            }
+            return value;
+        }
+    }
+
+}
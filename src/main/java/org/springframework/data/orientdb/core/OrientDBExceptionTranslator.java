@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.core;
+
+import com.orientechnologies.common.concur.ONeedRetryException;
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OAcquireTimeoutException;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.exception.OSecurityAccessException;
+import com.orientechnologies.orient.core.exception.OValidationException;
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PermissionDeniedDataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.UncategorizedDataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+
+/**
+ * {@link PersistenceExceptionTranslator} translating OrientDB exceptions into Spring's
+ * {@link DataAccessException} hierarchy. MVCC version conflicts ({@link OConcurrentModificationException}) become
+ * {@link OptimisticLockingFailureException}s, other exceptions asking for a retry become
+ * {@link ConcurrencyFailureException}s, both of which are retried by
+ * {@link org.springframework.data.orientdb.transaction.RetryingTransactionTemplate}.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class OrientDBExceptionTranslator implements PersistenceExceptionTranslator {
+
+    @Override
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        if (ex instanceof DataAccessException dataAccessException) {
+            return dataAccessException;
+        }
+
+        // Handle OrientDB exceptions wrapped by callbacks or other frameworks
+        OException orientException = findOrientDBException(ex);
+        return orientException != null ? translate(orientException) : null;
+    }
+
+    private static DataAccessException translate(OException ex) {
+        String message = ex.getMessage();
+        if (ex instanceof OConcurrentModificationException) {
+            return new OptimisticLockingFailureException(message, ex);
+        }
+        if (ex instanceof ONeedRetryException) {
+            return new ConcurrencyFailureException(message, ex);
+        }
+        if (ex instanceof ORecordDuplicatedException) {
+            return new DuplicateKeyException(message, ex);
+        }
+        if (ex instanceof OValidationException) {
+            return new DataIntegrityViolationException(message, ex);
+        }
+        if (ex instanceof ORecordNotFoundException) {
+            return new DataRetrievalFailureException(message, ex);
+        }
+        if (ex instanceof OSecurityAccessException) {
+            return new PermissionDeniedDataAccessException(message, ex);
+        }
+        if (ex instanceof OAcquireTimeoutException) {
+            return new DataAccessResourceFailureException(message, ex);
+        }
+        if (ex instanceof OTimeoutException) {
+            return new QueryTimeoutException(message, ex);
+        }
+        if (ex instanceof OCommandSQLParsingException || ex instanceof OCommandExecutionException) {
+            return new InvalidDataAccessResourceUsageException(message, ex);
+        }
+        return new UncategorizedOrientDBException(message, ex);
+    }
+
+    private static OException findOrientDBException(Throwable ex) {
+        Throwable current = ex;
+        for (int depth = 0; current != null && depth < 10; depth++) {
+            if (current instanceof OException orientException) {
+                return orientException;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    /**
+     * OrientDB exception not mapped to a more specific {@link DataAccessException}.
+     */
+    public static class UncategorizedOrientDBException extends UncategorizedDataAccessException {
+
+        public UncategorizedOrientDBException(String msg, Throwable cause) {
+            super(msg, cause);
+        }
+    }
+}
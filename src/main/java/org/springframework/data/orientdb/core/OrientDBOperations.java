@@ -17,6 +17,7 @@ package org.springframework.data.orientdb.core;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.id.ORID;
@@ -51,6 +52,17 @@ public interface OrientDBOperations {
      */
     <T> List<T> saveAll(Iterable<T> entities);
 
+    /**
+     * Save multiple entities to OrientDB in batches. Each batch is written with a single session
+     * and committed in its own OrientDB transaction unless a Spring-managed transaction is active.
+     *
+     * @param entities the entities to save
+     * @param batchSize the maximum number of entities per batch
+     * @param <T> the entity type
+     * @return the saved entities with updated IDs and versions
+     */
+    <T> List<T> saveAll(Iterable<T> entities, int batchSize);
+
     /**
      * Find an entity by its ID.
      *
@@ -61,6 +73,17 @@ public interface OrientDBOperations {
      */
     <T> Optional<T> findById(Object id, Class<T> entityClass);
 
+    /**
+     * Find all entities with the given IDs using a single session.
+     * Entities are returned in the order of the given IDs; IDs that do not exist are skipped.
+     *
+     * @param ids the entity IDs
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return list of the entities found
+     */
+    <T> List<T> findAllById(Iterable<?> ids, Class<T> entityClass);
+
     /**
      * Find all entities of a given type.
      *
@@ -87,6 +110,30 @@ public interface OrientDBOperations {
      */
     <T> void delete(T entity);
 
+    /**
+     * Delete the entities with the given IDs using a single session and transaction. IDs that do not exist are
+     * ignored.
+     *
+     * @param ids the entity IDs
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @since 1.6.0
+     */
+    default <T> void deleteAllById(Iterable<?> ids, Class<T> entityClass) {
+        ids.forEach(id -> deleteById(id, entityClass));
+    }
+
+    /**
+     * Delete the given entities using a single session and transaction.
+     *
+     * @param entities the entities to delete
+     * @param <T> the entity type
+     * @since 1.6.0
+     */
+    default <T> void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
     /**
      * Delete all entities of a given type.
      *
@@ -125,6 +172,30 @@ public interface OrientDBOperations {
      */
     <T> List<T> query(String query, Class<T> entityClass, Object... params);
 
+    /**
+     * Stream all entities of a given type.
+     *
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a stream of all entities, must be closed after use
+     * @see #stream(String, Class, Object...)
+     */
+    <T> Stream<T> streamAll(Class<T> entityClass);
+
+    /**
+     * Execute a custom SQL query and return a lazily converted stream of results.
+     * The underlying result set and session are kept open until the stream is closed, so
+     * callers must close it, preferably using try-with-resources. The stream must be consumed
+     * on the thread that opened it.
+     *
+     * @param query the SQL query
+     * @param entityClass the entity class for result mapping
+     * @param params query parameters
+     * @param <T> the entity type
+     * @return a stream of entities matching the query, must be closed after use
+     */
+    <T> Stream<T> stream(String query, Class<T> entityClass, Object... params);
+
     /**
      * Execute a custom SQL query and return a single result.
      *
@@ -136,6 +207,56 @@ public interface OrientDBOperations {
      */
     <T> Optional<T> querySingle(String query, Class<T> entityClass, Object... params);
 
+    /**
+     * Execute a custom SQL query and map each result row to the given projection type. Interface projections are
+     * backed by the result row, DTOs are created from it. Rows do not need to be full records, so the query may select
+     * only the properties the projection needs, e.g. {@code SELECT @rid AS id, firstName FROM Person}.
+     *
+     * @param query the SQL query
+     * @param projectionType the projection interface or DTO class
+     * @param params query parameters
+     * @param <T> the projection type
+     * @return list of projections
+     * @since 1.6.0
+     */
+    <T> List<T> queryForProjection(String query, Class<T> projectionType, Object... params);
+
+    /**
+     * Execute a custom SQL query and return a lazily mapped stream of projections, see
+     * {@link #queryForProjection(String, Class, Object...)}. Like {@link #stream(String, Class, Object...)}, the
+     * result set and session are kept open until the stream is closed.
+     *
+     * @param query the SQL query
+     * @param projectionType the projection interface or DTO class
+     * @param params query parameters
+     * @param <T> the projection type
+     * @return a stream of projections, must be closed after use
+     * @since 1.6.0
+     */
+    <T> Stream<T> streamForProjection(String query, Class<T> projectionType, Object... params);
+
+    /**
+     * Execute a query selecting a single value, e.g. {@code SELECT count(*) AS count FROM Person WHERE age > ?}, and
+     * return the value of the first property of the first row.
+     *
+     * @param query the SQL query
+     * @param params query parameters
+     * @return the value, {@literal 0} if the query returns no row or a non-numeric value
+     * @since 1.6.0
+     */
+    long queryForLong(String query, Object... params);
+
+    /**
+     * Execute a query and return whether it yields any row, without reading further rows. The query should select
+     * as little as possible, e.g. {@code SELECT @rid FROM Person WHERE age > ? LIMIT 1}.
+     *
+     * @param query the SQL query
+     * @param params query parameters
+     * @return {@literal true} if the query returns at least one row
+     * @since 1.6.0
+     */
+    boolean queryExists(String query, Object... params);
+
     /**
      * Execute a command (INSERT, UPDATE, DELETE) and return the number of affected records.
      *
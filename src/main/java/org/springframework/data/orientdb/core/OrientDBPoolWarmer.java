@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
+import org.springframework.util.Assert;
+
+/**
+ * Warms up an {@link ODatabasePool} and an {@link OrientDBTemplate} once all singletons, including repositories, are
+ * created, so that the first requests do not pay for opening sessions and loading metadata.
+ *
+ * <p>Opens the given number of sessions at once, so that the pool holds them afterwards, loads the schema and the
+ * vertex class of every persistent entity in each of them and compiles the mapping plans and lifecycle callbacks of
+ * all entities. Optionally runs a {@link #setWarmUpQuery(String) warm-up query} per vertex class. Failures are logged
+ * and never prevent startup.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class OrientDBPoolWarmer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrientDBPoolWarmer.class);
+
+    private final ODatabasePool databasePool;
+    private final OrientDBTemplate template;
+    private final int sessions;
+    private boolean enabled = true;
+    private String warmUpQuery;
+
+    /**
+     * Creates a new {@link OrientDBPoolWarmer}.
+     *
+     * @param databasePool the pool to warm up
+     * @param template the template to prepare the entity mappings of
+     * @param sessions the number of sessions to open, usually the minimum pool size
+     */
+    public OrientDBPoolWarmer(ODatabasePool databasePool, OrientDBTemplate template, int sessions) {
+        Assert.notNull(databasePool, "DatabasePool must not be null");
+        Assert.notNull(template, "Template must not be null");
+        Assert.isTrue(sessions >= 0, "Sessions must not be negative");
+
+        this.databasePool = databasePool;
+        this.template = template;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Set whether to warm up on startup. Enabled by default.
+     *
+     * @param enabled whether to warm up
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Set a query run once per vertex class of the persistent entities, {@code %s} is replaced by the vertex class
+     * name, e.g. {@code SELECT FROM %s LIMIT 1}. Not set by default.
+     *
+     * @param warmUpQuery the query format, {@literal null} to run no queries
+     */
+    public void setWarmUpQuery(String warmUpQuery) {
+        this.warmUpQuery = warmUpQuery;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Warm up the pool and the template.
+     */
+    public void warmUp() {
+        long start = System.nanoTime();
+        int entities = 0;
+        List<ODatabaseSession> opened = new ArrayList<>(sessions);
+        try {
+            entities = template.prepareMappings();
+            List<String> vertexClasses = new ArrayList<>(entities);
+            for (OrientDBPersistentEntity<?> entity : template.getMappingContext().getPersistentEntities()) {
+                vertexClasses.add(entity.getVertexClassName());
+            }
+
+            // Hold all sessions at once, so that the pool creates distinct ones
+            for (int i = 0; i < sessions; i++) {
+                ODatabaseSession session = databasePool.acquire();
+                opened.add(session);
+                loadMetadata(session, vertexClasses);
+            }
+            if (!opened.isEmpty() && warmUpQuery != null) {
+                runWarmUpQueries(opened.get(opened.size() - 1), vertexClasses);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Error warming up the OrientDB pool", e);
+        } finally {
+            for (ODatabaseSession session : opened) {
+                try {
+                    session.activateOnCurrentThread();
+                    session.close();
+                } catch (RuntimeException e) {
+                    logger.debug("Error closing warm-up session", e);
+                }
+            }
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Warmed up {} OrientDB sessions and {} entities in {} ms", opened.size(), entities,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Load the schema and the given vertex classes in the given session.
+     */
+    private void loadMetadata(ODatabaseSession session, List<String> vertexClasses) {
+        OSchema schema = session.getMetadata().getSchema();
+        schema.getClasses();
+        for (String vertexClass : vertexClasses) {
+            OClass schemaClass = schema.getClass(vertexClass);
+            if (schemaClass != null) {
+                schemaClass.properties();
+                schemaClass.getIndexes();
+            }
+        }
+    }
+
+    /**
+     * Run the warm-up query for every vertex class existing in the schema.
+     */
+    private void runWarmUpQueries(ODatabaseSession session, List<String> vertexClasses) {
+        session.activateOnCurrentThread();
+        OSchema schema = session.getMetadata().getSchema();
+        for (String vertexClass : vertexClasses) {
+            if (!schema.existsClass(vertexClass)) {
+                continue;
+            }
+            try (OResultSet resultSet = session.query(String.format(warmUpQuery, vertexClass))) {
+                while (resultSet.hasNext()) {
+                    resultSet.next();
+                }
+            } catch (RuntimeException e) {
+                logger.debug("Error running warm-up query for {}", vertexClass, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.core;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Cache for results of repository query methods, keyed by SQL text and bound parameters.
+ *
+ * <p>Each vertex class carries a generation, and every entry is tagged with the generation of the vertex class it was
+ * read from. Whenever {@link OrientDBTemplate} writes to a vertex class, its generation is incremented, which
+ * invalidates all entries of that class at once, and once more after the surrounding transaction completed. Queries
+ * against a vertex class the current transaction has written to bypass the cache until then. Commands, which may
+ * write to any class, invalidate all entries.</p>
+ *
+ * <p>Entries of an older generation are evicted when they are next looked up. No index of the cached keys is kept,
+ * so entries the underlying {@link Cache} evicts by size or age are released entirely. A result computed while an
+ * invalidation happened is tagged with the previous generation and therefore never served.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class OrientDBQueryResultCache {
+
+    /**
+     * Name of the cache holding query results.
+     */
+    public static final String CACHE_NAME = "orientdb-queries";
+
+    private final Cache cache;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link OrientDBQueryResultCache} storing results in the given {@link Cache}.
+     *
+     * @param cache must not be {@literal null}.
+     */
+    public OrientDBQueryResultCache(Cache cache) {
+        Assert.notNull(cache, "Cache must not be null");
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the underlying {@link Cache}.
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * Look up the cached result of a query.
+     *
+     * @param vertexClass the queried vertex class
+     * @param query the SQL text
+     * @param parameters the bound parameters
+     * @return the cached result, or {@literal null} if absent or bypassed within the current transaction
+     */
+    public Cache.ValueWrapper get(String vertexClass, String query, Object[] parameters) {
+        if (isWrittenInTransaction(vertexClass)) {
+            return null;
+        }
+
+        QueryKey key = new QueryKey(query, parameters);
+        Cache.ValueWrapper value = cache.get(key);
+        if (value == null || !(value.get() instanceof CachedResult result)) {
+            return null;
+        }
+
+        // Handle entries of an invalidated generation
+        if (result.generation != getGeneration(vertexClass)) {
+            cache.evict(key);
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current generation of the given vertex class, to be passed to
+     * {@link #put(String, String, Object[], Object, long)} for a result computed afterwards.
+     *
+     * @param vertexClass the queried vertex class
+     * @return the generation
+     */
+    public long getGeneration(String vertexClass) {
+        return getGenerationCounter(vertexClass).get();
+    }
+
+    /**
+     * Store the result of a query unless the vertex class was invalidated since the given generation.
+     *
+     * @param vertexClass the queried vertex class
+     * @param query the SQL text
+     * @param parameters the bound parameters
+     * @param result the result to cache
+     * @param generation the generation obtained before the query was executed
+     */
+    public void put(String vertexClass, String query, Object[] parameters, Object result, long generation) {
+        if (isWrittenInTransaction(vertexClass)) {
+            return;
+        }
+
+        // An invalidation racing with this put leaves an entry of the previous generation, which is never served
+        if (getGeneration(vertexClass) == generation) {
+            cache.put(new QueryKey(query, parameters), new CachedResult(result, generation));
+        }
+    }
+
+    /**
+     * Evict all results of the given vertex class now and, within a transaction, again after it completed.
+     *
+     * @param vertexClass the written vertex class
+     */
+    void invalidate(String vertexClass) {
+        evict(vertexClass);
+
+        PendingInvalidations pending = getPendingInvalidations();
+        if (pending != null) {
+            pending.vertexClasses.add(vertexClass);
+        }
+    }
+
+    /**
+     * Evict all results now and, within a transaction, again after it completed.
+     */
+    void invalidateAll() {
+        evictAll();
+
+        PendingInvalidations pending = getPendingInvalidations();
+        if (pending != null) {
+            pending.all = true;
+        }
+    }
+
+    private void evict(String vertexClass) {
+        getGenerationCounter(vertexClass).incrementAndGet();
+    }
+
+    private void evictAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        cache.clear();
+    }
+
+    private AtomicLong getGenerationCounter(String vertexClass) {
+        AtomicLong generation = generations.get(vertexClass);
+        if (generation == null) {
+            generation = generations.computeIfAbsent(vertexClass, name -> new AtomicLong());
+        }
+        return generation;
+    }
+
+    private boolean isWrittenInTransaction(String vertexClass) {
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        return pending != null && (pending.all || pending.vertexClasses.contains(vertexClass));
+    }
+
+    private PendingInvalidations getPendingInvalidations() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * Query result tagged with the generation of its vertex class at the time it was computed.
+     */
+    private static final class CachedResult implements Cache.ValueWrapper, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object result;
+        private final long generation;
+
+        CachedResult(Object result, long generation) {
+            this.result = result;
+            this.generation = generation;
+        }
+
+        @Override
+        public Object get() {
+            return result;
+        }
+    }
+
+    /**
+     * Vertex classes written by the current transaction, invalidated again once it completed.
+     */
+    private final class PendingInvalidations implements TransactionSynchronization {
+
+        private final Set<String> vertexClasses = new HashSet<>();
+        private boolean all;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(OrientDBQueryResultCache.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(OrientDBQueryResultCache.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrientDBQueryResultCache.this);
+            if (all) {
+                evictAll();
+            } else {
+                vertexClasses.forEach(OrientDBQueryResultCache.this::evict);
+            }
+        }
+    }
+
+    /**
+     * Cache key made of the SQL text and the bound parameters.
+     */
+    private static final class QueryKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String query;
+        private final Object[] parameters;
+        private final int hashCode;
+
+        QueryKey(String query, Object[] parameters) {
+            this.query = query;
+            this.parameters = parameters != null ? parameters.clone() : new Object[0];
+            this.hashCode = 31 * query.hashCode() + Arrays.deepHashCode(this.parameters);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof QueryKey that)) {
+                return false;
+            }
+            return query.equals(that.query) && Arrays.deepEquals(parameters, that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return query + " " + Arrays.deepToString(parameters);
+        }
+    }
+
+}
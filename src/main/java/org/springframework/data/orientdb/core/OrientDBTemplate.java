@@ -16,8 +16,20 @@
 package org.springframework.data.orientdb.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.orientechnologies.orient.core.db.ODatabasePool;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
@@ -33,11 +45,22 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.orientdb.core.convert.OrientDBEntityConverter;
+import org.springframework.data.orientdb.core.convert.OrientDBProjectionConverter;
 import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
 import org.springframework.data.orientdb.core.mapping.event.*;
 import org.springframework.data.orientdb.core.mapping.event.EntityCallbackHandler;
+import org.springframework.data.orientdb.observability.OrientDBMetrics;
+import org.springframework.data.orientdb.observability.OrientDBMetrics.Operation;
+import org.springframework.data.orientdb.observability.OrientDBQueryStatistics;
 import org.springframework.data.orientdb.transaction.SessionHolder;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
@@ -45,6 +68,8 @@ import org.springframework.util.Assert;
 /**
  * Primary implementation of {@link OrientDBOperations}.
  * Simplifies working with OrientDB by providing convenience methods for common operations.
+ * Exceptions raised by OrientDB are translated into Spring's {@link DataAccessException} hierarchy by
+ * {@link OrientDBExceptionTranslator}.
  *
  * @author Spring Data OrientDB Team
  * @since 1.0
@@ -53,11 +78,28 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
 
     private static final Logger logger = LoggerFactory.getLogger(OrientDBTemplate.class);
 
+    /**
+     * Default number of entities written per session and transaction by {@link #saveAll(Iterable)}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Maximum number of record IDs rendered into a single RID list query.
+     */
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final ODatabasePool databasePool;
     private final OrientDBMappingContext mappingContext;
     private final OrientDBEntityConverter entityConverter;
+    private final OrientDBProjectionConverter projectionConverter = new OrientDBProjectionConverter();
+    private final PersistenceExceptionTranslator exceptionTranslator = new OrientDBExceptionTranslator();
     private ApplicationContext applicationContext;
     private ApplicationEventPublisher eventPublisher;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private OrientDBEntityCache entityCache;
+    private OrientDBQueryResultCache queryResultCache;
+    private OrientDBMetrics metrics;
+    private OrientDBQueryStatistics queryStatistics;
 
     public OrientDBTemplate(ODatabasePool databasePool) {
         this(databasePool, new OrientDBMappingContext());
@@ -82,10 +124,214 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Set the number of entities written per session and OrientDB transaction by {@link #saveAll(Iterable)}.
+     *
+     * @param batchSize the batch size, must be greater than zero
+     */
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Return the number of entities written per session and OrientDB transaction by {@link #saveAll(Iterable)}.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Configures the second-level {@link OrientDBEntityCache} serving {@link #findById(Object, Class)},
+     * {@link #existsById(Object, Class)} and {@link #findAllById(Iterable, Class)}. Disabled by default.
+     *
+     * @param entityCache the entity cache, {@literal null} to disable caching
+     * @since 1.6.0
+     */
+    public void setEntityCache(OrientDBEntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    /**
+     * Returns the configured {@link OrientDBEntityCache}, or {@literal null} if caching is disabled.
+     *
+     * @since 1.6.0
+     */
+    public OrientDBEntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Configures the {@link OrientDBQueryResultCache} to invalidate whenever this template writes to a vertex class.
+     * Must be the cache used by the repositories' cached query methods.
+     *
+     * @param queryResultCache the query result cache, {@literal null} if query results are not cached
+     * @since 1.6.0
+     */
+    public void setQueryResultCache(OrientDBQueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+    }
+
+    /**
+     * Returns the configured {@link OrientDBQueryResultCache}, or {@literal null} if query results are not cached.
+     *
+     * @since 1.6.0
+     */
+    public OrientDBQueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    /**
+     * Configures the {@link OrientDBMetrics} timing save, find and delete operations per entity class. Queries are
+     * timed per repository method by the repository infrastructure instead. Disabled by default.
+     *
+     * @param metrics the metrics, {@literal null} to disable timing
+     * @since 1.6.0
+     */
+    public void setMetrics(OrientDBMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the configured {@link OrientDBMetrics}, or {@literal null} if operations are not timed.
+     *
+     * @since 1.6.0
+     */
+    public OrientDBMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Configures the {@link OrientDBQueryStatistics} aggregating the executions of queries and commands per query
+     * fingerprint and logging slow queries. Disabled by default.
+     *
+     * @param queryStatistics the query statistics, {@literal null} to disable them
+     * @since 1.6.0
+     */
+    public void setQueryStatistics(OrientDBQueryStatistics queryStatistics) {
+        this.queryStatistics = queryStatistics;
+    }
+
+    /**
+     * Returns the configured {@link OrientDBQueryStatistics}, or {@literal null} if disabled.
+     *
+     * @since 1.6.0
+     */
+    public OrientDBQueryStatistics getQueryStatistics() {
+        return queryStatistics;
+    }
+
     @Override
     public <T> T save(T entity) {
         Assert.notNull(entity, "Entity must not be null");
+        assertWritable();
         
+        prepareForSave(entity);
+        
+        return record(Operation.SAVE, entity.getClass(), "save", () -> execute(session -> {
+            OVertex vertex = writeVertex(session, entity);
+            
+            // Only commit if NOT in a managed transaction
+            if (!isTransactionActive(session)) {
+                session.commit();
+            }
+            
+            return readSaved(entity, vertex);
+        }));
+    }
+
+    @Override
+    public <T> List<T> saveAll(Iterable<T> entities) {
+        return saveAll(entities, batchSize);
+    }
+
+    @Override
+    public <T> List<T> saveAll(Iterable<T> entities, int batchSize) {
+        Assert.notNull(entities, "Entities must not be null");
+        Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+        assertWritable();
+        
+        List<T> result = new ArrayList<>();
+        List<T> batch = new ArrayList<>(Math.min(batchSize, 1024));
+        int batchIndex = 0;
+        for (T entity : entities) {
+            Assert.notNull(entity, "Entity must not be null");
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                result.addAll(saveBatch(batch, batchIndex++));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            result.addAll(saveBatch(batch, batchIndex));
+        }
+        return result;
+    }
+
+    /**
+     * Save one batch of entities using a single session and a single OrientDB transaction.
+     * When running inside a Spring-managed transaction, the batch joins it and is committed
+     * together with the surrounding transaction.
+     */
+    private <T> List<T> saveBatch(List<T> batch, int batchIndex) {
+        for (T entity : batch) {
+            prepareForSave(entity);
+        }
+        
+        List<T> saved = record(Operation.SAVE, batch.get(0).getClass(), "saveAll", () -> execute(session -> {
+            boolean localTransaction = !isTransactionActive(session);
+            if (localTransaction) {
+                session.begin();
+            }
+            
+            List<OVertex> vertices = new ArrayList<>(batch.size());
+            try {
+                for (T entity : batch) {
+                    vertices.add(writeVertex(session, entity));
+                }
+                if (localTransaction) {
+                    session.commit();
+                }
+            } catch (RuntimeException e) {
+                if (localTransaction) {
+                    session.rollback();
+                }
+                throw e;
+            }
+
+            // Handle loads and queries that raced the local transaction and cached the pre-commit state
+            if (localTransaction && entityCache != null) {
+                for (OVertex vertex : vertices) {
+                    entityCache.evict(vertex.getIdentity());
+                }
+            }
+            if (localTransaction && queryResultCache != null) {
+                batch.stream().map(Object::getClass).distinct().forEach(this::invalidateQueryResults);
+            }
+
+            // Read back after commit so that temporary record ids have been replaced
+            List<T> results = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(readSaved(batch.get(i), vertices.get(i)));
+            }
+            return results;
+        }));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Saved batch {} with {} entities", batchIndex, saved.size());
+        }
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new AfterSaveBatchEvent(saved, batchIndex));
+        }
+        return saved;
+    }
+
+    /**
+     * Invoke the @PrePersist callback and publish the before save events for an entity.
+     */
+    private void prepareForSave(Object entity) {
         // Invoke @PrePersist callback
         EntityCallbackHandler.invokePrePersist(entity);
         
@@ -94,74 +340,76 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
             eventPublisher.publishEvent(new BeforeSaveEvent(entity));
             eventPublisher.publishEvent(new BeforeConvertEvent(entity));
         }
+    }
+
+    /**
+     * Load or create the vertex backing the given entity, write the entity to it and save it.
+     * Does not commit.
+     */
+    private OVertex writeVertex(ODatabaseSession session, Object entity) {
+        OrientDBPersistentEntity<?> persistentEntity = 
+            (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entity.getClass());
         
-        return execute(session -> {
-            OrientDBPersistentEntity<?> persistentEntity = 
-                (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entity.getClass());
-            
-            String vertexClassName = persistentEntity.getVertexClassName();
-            
-            // Get the ID if it exists
-            PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(entity);
-            Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
-            
-            OVertex vertex;
-            if (id != null && id instanceof ORID) {
-                // Update existing vertex
-                vertex = session.load((ORID) id);
+        String vertexClassName = persistentEntity.getVertexClassName();
+        
+        // Get the ID if it exists
+        Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+        
+        OVertex vertex;
+        if (id != null && id instanceof ORID) {
+            // Update existing vertex
+            vertex = session.load((ORID) id);
+            if (vertex == null) {
+                throw new IllegalArgumentException("Vertex with ID " + id + " not found");
+            }
+        } else if (id != null && id instanceof String) {
+            // Try to load by string ID
+            try {
+                ORID orid = new ORecordId((String) id);
+                vertex = session.load(orid);
                 if (vertex == null) {
-                    throw new IllegalArgumentException("Vertex with ID " + id + " not found");
-                }
-            } else if (id != null && id instanceof String) {
-                // Try to load by string ID
-                try {
-                    ORID orid = new ORecordId((String) id);
-                    vertex = session.load(orid);
-                    if (vertex == null) {
-                        // Create new if not found
-                        vertex = session.newVertex(vertexClassName);
-                    }
-                } catch (IllegalArgumentException e) {
-                    // Invalid ORID format, create new
+                    // Create new if not found
                     vertex = session.newVertex(vertexClassName);
                 }
-            } else {
-                // Create new vertex
+            } catch (IllegalArgumentException e) {
+                // Invalid ORID format, create new
                 vertex = session.newVertex(vertexClassName);
             }
-            
-            // Convert entity to vertex
-            entityConverter.write(entity, vertex);
-            
-            // Save vertex
-            vertex.save();
-            
-            // Only commit if NOT in a managed transaction
-            if (!isTransactionActive(session)) {
-                session.commit();
-            }
-            
-            // Convert back to entity with updated ID
-            T result = (T) entityConverter.read(entity.getClass(), vertex);
-            
-            // Publish after save and after convert events
-            if (eventPublisher != null) {
-                eventPublisher.publishEvent(new AfterConvertEvent(result));
-                eventPublisher.publishEvent(new AfterSaveEvent(result));
-            }
-            
-            return result;
-        });
+        } else {
+            // Create new vertex
+            vertex = session.newVertex(vertexClassName);
+        }
+        
+        // Convert entity to vertex
+        entityConverter.write(entity, vertex);
+        
+        // Save vertex
+        vertex.save();
+        
+        if (entityCache != null) {
+            entityCache.evict(vertex.getIdentity());
+        }
+        if (queryResultCache != null) {
+            queryResultCache.invalidate(vertexClassName);
+        }
+        
+        return vertex;
     }
 
-    @Override
-    public <T> List<T> saveAll(Iterable<T> entities) {
-        Assert.notNull(entities, "Entities must not be null");
+    /**
+     * Convert a saved vertex back to an entity with updated ID and publish the after save events.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T readSaved(T entity, OVertex vertex) {
+        // Convert back to entity with updated ID
+        T result = (T) entityConverter.read(entity.getClass(), vertex);
         
-        List<T> result = new ArrayList<>();
-        for (T entity : entities) {
-            result.add(save(entity));
+        // Publish after save and after convert events
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new AfterConvertEvent(result));
+            eventPublisher.publishEvent(new AfterSaveEvent(result));
         }
+        
         return result;
     }
 
@@ -170,21 +418,143 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         Assert.notNull(id, "ID must not be null");
         Assert.notNull(entityClass, "Entity class must not be null");
         
-        return execute(session -> {
+        return record(Operation.FIND, entityClass, "findById", () -> {
+            ORID orid;
             try {
-                ORID orid = convertToORID(id);
-                OVertex vertex = session.load(orid);
-                
-                if (vertex == null) {
-                    return Optional.empty();
-                }
-                
-                T entity = entityConverter.read(entityClass, vertex);
-                return Optional.ofNullable(entity);
+                orid = convertToORID(id);
             } catch (Exception e) {
                 logger.debug("Error finding entity by ID: {}", id, e);
-                return Optional.empty();
+                return Optional.<T>empty();
+            }
+            
+            // Serve from the entity cache without acquiring a session
+            OrientDBEntityCache cache = this.entityCache;
+            if (cache != null) {
+                T cached = cache.get(orid, entityClass, entityConverter);
+                if (cached != null) {
+                    return Optional.of(cached);
+                }
+            }
+            long stamp = cache != null ? cache.getStamp() : 0L;
+            
+            return execute(session -> {
+                try {
+                    OVertex vertex = session.load(orid);
+                    
+                    if (vertex == null) {
+                        return Optional.<T>empty();
+                    }
+                    
+                    T entity = entityConverter.read(entityClass, vertex);
+                    if (cache != null) {
+                        cache.put(vertex, stamp);
+                    }
+                    return Optional.ofNullable(entity);
+                } catch (Exception e) {
+                    logger.debug("Error finding entity by ID: {}", id, e);
+                    return Optional.<T>empty();
+                }
+            });
+        });
+    }
+
+    @Override
+    public <T> List<T> findAllById(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "IDs must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        
+        List<ORID> orids = new ArrayList<>();
+        for (Object id : ids) {
+            Assert.notNull(id, "ID must not be null");
+            try {
+                orids.add(convertToORID(id));
+            } catch (IllegalArgumentException e) {
+                logger.debug("Skipping invalid ID: {}", id, e);
+            }
+        }
+        if (orids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        return record(Operation.FIND, entityClass, "findAllById", () -> {
+            Map<ORID, T> loaded = new HashMap<>(orids.size() * 2);
+            
+            // Serve cached records without a session, only the remaining ones are queried
+            OrientDBEntityCache cache = this.entityCache;
+            List<ORID> uncached = orids;
+            if (cache != null) {
+                uncached = new ArrayList<>(orids.size());
+                for (ORID orid : orids) {
+                    T cached = cache.get(orid, entityClass, entityConverter);
+                    if (cached != null) {
+                        loaded.put(orid, cached);
+                    } else {
+                        uncached.add(orid);
+                    }
+                }
+            }
+            if (!uncached.isEmpty()) {
+                loadAll(uncached, entityClass, cache, loaded);
+            }
+            
+            // Return in input order, skipping IDs that were not found
+            List<T> results = new ArrayList<>(loaded.size());
+            for (ORID orid : orids) {
+                T entity = loaded.get(orid);
+                if (entity != null) {
+                    results.add(entity);
+                }
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Load the given records in chunks and add the entities read from them to {@code loaded}, storing the records in
+     * the entity cache if one is given.
+     */
+    private <T> void loadAll(List<ORID> orids, Class<T> entityClass, OrientDBEntityCache cache, Map<ORID, T> loaded) {
+        long stamp = cache != null ? cache.getStamp() : 0L;
+        execute(session -> {
+            for (int start = 0; start < orids.size(); start += ID_CHUNK_SIZE) {
+                List<ORID> chunk = orids.subList(start, Math.min(start + ID_CHUNK_SIZE, orids.size()));
+                List<OVertex> vertices = new ArrayList<>(chunk.size());
+                String query = "SELECT FROM " + toRidList(chunk);
+                try {
+                    recordQuery(query, null, () -> {
+                        try (OResultSet resultSet = session.query(query)) {
+                            while (resultSet.hasNext()) {
+                                resultSet.next().getVertex().ifPresent(vertices::add);
+                            }
+                        }
+                        return vertices;
+                    }, List::size);
+                } catch (Exception e) {
+                    // e.g. an ID pointing to a non-existent cluster - fall back to point loads
+                    logger.debug("Bulk load failed, loading IDs individually", e);
+                    vertices.clear();
+                    for (ORID orid : chunk) {
+                        try {
+                            OVertex vertex = session.load(orid);
+                            if (vertex != null) {
+                                vertices.add(vertex);
+                            }
+                        } catch (Exception loadException) {
+                            logger.debug("Error finding entity by ID: {}", orid, loadException);
+                        }
+                    }
+                }
+                for (OVertex vertex : vertices) {
+                    T entity = entityConverter.read(entityClass, vertex);
+                    if (entity != null) {
+                        loaded.put(vertex.getIdentity(), entity);
+                        if (cache != null) {
+                            cache.put(vertex, stamp);
+                        }
+                    }
+                }
             }
+            return null;
         });
     }
 
@@ -197,28 +567,34 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         String vertexClassName = persistentEntity.getVertexClassName();
         
         String query = "SELECT FROM " + vertexClassName;
-        return query(query, entityClass);
+        return record(Operation.FIND, entityClass, "findAll", () -> query(query, entityClass));
     }
 
     @Override
     public <T> void deleteById(Object id, Class<T> entityClass) {
         Assert.notNull(id, "ID must not be null");
         Assert.notNull(entityClass, "Entity class must not be null");
+        assertWritable();
         
-        execute(session -> {
+        record(Operation.DELETE, entityClass, "deleteById", () -> execute(session -> {
             ORID orid = convertToORID(id);
             session.delete(orid);
+            if (entityCache != null) {
+                entityCache.evict(orid);
+            }
+            invalidateQueryResults(entityClass);
             // Only commit if NOT in a managed transaction
             if (!isTransactionActive(session)) {
                 session.commit();
             }
             return null;
-        });
+        }));
     }
 
     @Override
     public <T> void delete(T entity) {
         Assert.notNull(entity, "Entity must not be null");
+        assertWritable();
         
         // Publish before delete event
         if (eventPublisher != null) {
@@ -228,7 +604,7 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         // Invoke @PreRemove callback
         EntityCallbackHandler.invokePreRemove(entity);
         
-        execute(session -> {
+        record(Operation.DELETE, entity.getClass(), "delete", () -> execute(session -> {
             OrientDBPersistentEntity<?> persistentEntity = 
                 (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entity.getClass());
             
@@ -239,12 +615,81 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
             
             ORID orid = convertToORID(id);
             session.delete(orid);
+            if (entityCache != null) {
+                entityCache.evict(orid);
+            }
+            if (queryResultCache != null) {
+                queryResultCache.invalidate(persistentEntity.getVertexClassName());
+            }
             // Only commit if NOT in a managed transaction
             if (!isTransactionActive(session)) {
                 session.commit();
             }
             return null;
-        });
+        }));
+    }
+
+    @Override
+    public <T> void deleteAllById(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "IDs must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        assertWritable();
+        
+        List<ORID> orids = new ArrayList<>();
+        for (Object id : ids) {
+            Assert.notNull(id, "ID must not be null");
+            orids.add(convertToORID(id));
+        }
+        if (orids.isEmpty()) {
+            return;
+        }
+        
+        record(Operation.DELETE, entityClass, "deleteAllById", () -> execute(session -> {
+            deleteVertices(session, orids);
+            invalidateQueryResults(entityClass);
+            return null;
+        }));
+    }
+
+    @Override
+    public <T> void deleteAll(Iterable<? extends T> entities) {
+        Assert.notNull(entities, "Entities must not be null");
+        assertWritable();
+        
+        List<Object> toDelete = new ArrayList<>();
+        entities.forEach(toDelete::add);
+        if (toDelete.isEmpty()) {
+            return;
+        }
+        
+        // Only pay for events and callbacks where someone handles them
+        boolean publishEvents = hasBeforeDeleteListeners();
+        List<ORID> orids = new ArrayList<>(toDelete.size());
+        Set<Class<?>> entityClasses = new LinkedHashSet<>();
+        for (Object entity : toDelete) {
+            Assert.notNull(entity, "Entity must not be null");
+            OrientDBPersistentEntity<?> persistentEntity = 
+                (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entity.getClass());
+            Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+            if (id == null) {
+                throw new IllegalArgumentException("Cannot delete entity without ID");
+            }
+            
+            if (publishEvents) {
+                eventPublisher.publishEvent(new BeforeDeleteEvent(entity));
+            }
+            if (EntityCallbackHandler.hasPreRemoveCallbacks(entity.getClass())) {
+                EntityCallbackHandler.invokePreRemove(entity);
+            }
+            orids.add(convertToORID(id));
+            entityClasses.add(entity.getClass());
+        }
+        
+        record(Operation.DELETE, entityClasses.iterator().next(), "deleteAll", () -> execute(session -> {
+            deleteVertices(session, orids);
+            entityClasses.forEach(this::invalidateQueryResults);
+            return null;
+        }));
     }
 
     @Override
@@ -255,7 +700,7 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
             (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entityClass);
         String vertexClassName = persistentEntity.getVertexClassName();
         
-        command("DELETE VERTEX " + vertexClassName);
+        record(Operation.DELETE, entityClass, "deleteAll", () -> command("DELETE VERTEX " + vertexClassName));
     }
 
     @Override
@@ -267,20 +712,52 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         String vertexClassName = persistentEntity.getVertexClassName();
         
         String query = "SELECT COUNT(*) as count FROM " + vertexClassName;
-        return execute(session -> {
+        return record(Operation.FIND, entityClass, "count", () -> recordQuery(query, null, () -> execute(session -> {
             try (OResultSet resultSet = session.query(query)) {
                 if (resultSet.hasNext()) {
                     OResult result = resultSet.next();
-                    return result.getProperty("count");
+                    return result.<Long>getProperty("count");
                 }
             }
             return 0L;
-        });
+        }), count -> 1));
     }
 
     @Override
     public <T> boolean existsById(Object id, Class<T> entityClass) {
-        return findById(id, entityClass).isPresent();
+        Assert.notNull(id, "ID must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        
+        return record(Operation.FIND, entityClass, "existsById", () -> {
+            ORID orid;
+            try {
+                orid = convertToORID(id);
+            } catch (Exception e) {
+                logger.debug("Error checking existence of entity by ID: {}", id, e);
+                return false;
+            }
+            
+            // Answer from the entity cache without acquiring a session
+            OrientDBEntityCache cache = this.entityCache;
+            if (cache != null && cache.contains(orid)) {
+                return true;
+            }
+            
+            // Only fetch the record ID, the vertex is never converted to an entity
+            String query = "SELECT @rid FROM " + orid;
+            return execute(session -> {
+                try {
+                    return recordQuery(query, null, () -> {
+                        try (OResultSet resultSet = session.query(query)) {
+                            return resultSet.hasNext();
+                        }
+                    }, exists -> exists ? 1 : 0);
+                } catch (Exception e) {
+                    logger.debug("Error checking existence of entity by ID: {}", id, e);
+                    return false;
+                }
+            });
+        });
     }
 
     @Override
@@ -288,7 +765,7 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         Assert.notNull(query, "Query must not be null");
         Assert.notNull(entityClass, "Entity class must not be null");
         
-        return execute(session -> {
+        return recordQuery(query, params, () -> execute(session -> {
             List<T> results = new ArrayList<>();
             try (OResultSet resultSet = session.query(query, params)) {
                 while (resultSet.hasNext()) {
@@ -303,7 +780,97 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
                 }
             }
             return results;
-        });
+        }), List::size);
+    }
+
+    @Override
+    public <T> Stream<T> streamAll(Class<T> entityClass) {
+        Assert.notNull(entityClass, "Entity class must not be null");
+        
+        OrientDBPersistentEntity<?> persistentEntity = 
+            (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entityClass);
+        
+        return stream("SELECT FROM " + persistentEntity.getVertexClassName(), entityClass);
+    }
+
+    @Override
+    public <T> Stream<T> stream(String query, Class<T> entityClass, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        
+        return streamResults(query, params)
+            .map(result -> result.getVertex().orElse(null))
+            .filter(Objects::nonNull)
+            .map(vertex -> entityConverter.read(entityClass, vertex))
+            .filter(Objects::nonNull);
+    }
+
+    @Override
+    public <T> Stream<T> streamForProjection(String query, Class<T> projectionType, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(projectionType, "Projection type must not be null");
+        
+        return streamResults(query, params)
+            .map(result -> projectionType.isInterface()
+                ? projectionConverter.createProjection(result, projectionType)
+                : entityConverter.read(projectionType, result))
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Execute the given query and stream its result rows, keeping the result set and session open until the stream
+     * is closed. Rows are fetched as the stream advances.
+     */
+    private Stream<OResult> streamResults(String query, Object[] params) {
+        SessionHolder sessionHolder = (SessionHolder) 
+            TransactionSynchronizationManager.getResource(databasePool);
+        boolean transactionBound = sessionHolder != null && sessionHolder.hasSession();
+        
+        // Keep the session open until the stream is closed, unless it belongs to the transaction
+        ODatabaseSession session = transactionBound ? sessionHolder.getSession() : databasePool.acquire();
+        OrientDBQueryStatistics statistics = this.queryStatistics;
+        long start = System.nanoTime();
+        long[] rows = new long[1];
+        OResultSet resultSet;
+        try {
+            resultSet = session.query(query, params);
+        } catch (Exception e) {
+            if (!transactionBound) {
+                session.close();
+            }
+            throw translateException(e);
+        }
+        
+        Spliterator<OResult> spliterator = new Spliterators.AbstractSpliterator<OResult>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super OResult> action) {
+                // Other template calls on this thread may have activated a different session
+                session.activateOnCurrentThread();
+                if (!resultSet.hasNext()) {
+                    return false;
+                }
+                action.accept(resultSet.next());
+                rows[0]++;
+                return true;
+            }
+        };
+        
+        return StreamSupport.stream(spliterator, false)
+            .onClose(() -> {
+                try {
+                    resultSet.close();
+                    // Streams are recorded from execution until closed
+                    if (statistics != null) {
+                        statistics.record(query, params, System.nanoTime() - start, rows[0]);
+                    }
+                } finally {
+                    if (!transactionBound) {
+                        session.activateOnCurrentThread();
+                        session.close();
+                    }
+                }
+            });
     }
 
     @Override
@@ -311,7 +878,7 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         Assert.notNull(query, "Query must not be null");
         Assert.notNull(entityClass, "Entity class must not be null");
         
-        return execute(session -> {
+        return recordQuery(query, params, () -> execute(session -> {
             try (OResultSet resultSet = session.query(query, params)) {
                 if (resultSet.hasNext()) {
                     OResult result = resultSet.next();
@@ -322,28 +889,87 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
                     }
                 }
             }
-            return Optional.empty();
-        });
+            return Optional.<T>empty();
+        }), result -> result.isPresent() ? 1 : 0);
+    }
+
+    @Override
+    public <T> List<T> queryForProjection(String query, Class<T> projectionType, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(projectionType, "Projection type must not be null");
+        
+        return recordQuery(query, params, () -> execute(session -> {
+            List<T> results = new ArrayList<>();
+            try (OResultSet resultSet = session.query(query, params)) {
+                while (resultSet.hasNext()) {
+                    OResult result = resultSet.next();
+                    T projection = projectionType.isInterface()
+                        ? projectionConverter.createProjection(result, projectionType)
+                        : entityConverter.read(projectionType, result);
+                    if (projection != null) {
+                        results.add(projection);
+                    }
+                }
+            }
+            return results;
+        }), List::size);
+    }
+
+    @Override
+    public long queryForLong(String query, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        
+        return recordQuery(query, params, () -> execute(session -> {
+            try (OResultSet resultSet = session.query(query, params)) {
+                if (resultSet.hasNext()) {
+                    OResult result = resultSet.next();
+                    for (String propertyName : result.getPropertyNames()) {
+                        Object value = result.getProperty(propertyName);
+                        return value instanceof Number number ? number.longValue() : 0L;
+                    }
+                }
+            }
+            return 0L;
+        }), value -> 1);
+    }
+
+    @Override
+    public boolean queryExists(String query, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        
+        return recordQuery(query, params, () -> execute(session -> {
+            try (OResultSet resultSet = session.query(query, params)) {
+                return resultSet.hasNext();
+            }
+        }), exists -> exists ? 1 : 0);
     }
 
     @Override
     public int command(String command, Object... params) {
         Assert.notNull(command, "Command must not be null");
+        assertWritable();
         
-        return execute(session -> {
+        return recordQuery(command, params, () -> execute(session -> {
             try (OResultSet resultSet = session.command(command, params)) {
                 int count = 0;
                 while (resultSet.hasNext()) {
                     resultSet.next();
                     count++;
                 }
+                // Commands may change any record
+                if (entityCache != null) {
+                    entityCache.clear();
+                }
+                if (queryResultCache != null) {
+                    queryResultCache.invalidateAll();
+                }
                 // Only commit if NOT in a managed transaction
                 if (!isTransactionActive(session)) {
                     session.commit();
                 }
                 return count;
             }
-        });
+        }), Integer::longValue);
     }
 
     @Override
@@ -362,16 +988,14 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
             try {
                 return callback.doInDatabase(sessionHolder.getSession());
             } catch (Exception e) {
-                logger.error("Error executing database operation", e);
-                throw new RuntimeException("Error executing database operation", e);
+                throw translateException(e);
             }
         } else {
             // No transaction - acquire a new session and close it after use
             try (ODatabaseSession session = databasePool.acquire()) {
                 return callback.doInDatabase(session);
             } catch (Exception e) {
-                logger.error("Error executing database operation", e);
-                throw new RuntimeException("Error executing database operation", e);
+                throw translateException(e);
             }
         }
     }
@@ -381,6 +1005,172 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         return mappingContext;
     }
 
+    /**
+     * Translate an exception thrown by a database operation into a {@link DataAccessException} if it originates
+     * from OrientDB, wrap it otherwise.
+     */
+    private RuntimeException translateException(Exception e) {
+        DataAccessException translated = e instanceof RuntimeException runtimeException
+            ? exceptionTranslator.translateExceptionIfPossible(runtimeException)
+            : null;
+        if (translated instanceof ConcurrencyFailureException) {
+            // Conflicts are expected under contention and usually retried
+            logger.debug("Concurrent modification in database operation", e);
+            return translated;
+        }
+        logger.error("Error executing database operation", e);
+        return translated != null ? translated : new RuntimeException("Error executing database operation", e);
+    }
+
+    /**
+     * Compile the mapping plans and resolve the lifecycle callbacks of all entities known to the mapping context.
+     *
+     * @return the number of prepared entities
+     */
+    int prepareMappings() {
+        int count = 0;
+        for (OrientDBPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            entityConverter.prepare(entity.getType());
+            EntityCallbackHandler.hasPreRemoveCallbacks(entity.getType());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Run the given operation, timing it if metrics are configured.
+     */
+    private <T> T record(Operation operation, Class<?> entityClass, String method, Supplier<T> action) {
+        OrientDBMetrics metrics = this.metrics;
+        return metrics != null ? metrics.record(operation, entityClass, method, action) : action.get();
+    }
+
+    /**
+     * Run the given query, recording it in the query statistics if configured.
+     */
+    private <T> T recordQuery(String query, Object[] params, Supplier<T> action, ToLongFunction<? super T> rows) {
+        OrientDBQueryStatistics statistics = this.queryStatistics;
+        if (statistics == null) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        T result = action.get();
+        statistics.record(query, params, System.nanoTime() - start, rows.applyAsLong(result));
+        return result;
+    }
+
+    /**
+     * Invalidate cached query results of the vertex class mapped by the given entity class.
+     */
+    private void invalidateQueryResults(Class<?> entityClass) {
+        if (queryResultCache != null) {
+            OrientDBPersistentEntity<?> persistentEntity = 
+                (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entityClass);
+            queryResultCache.invalidate(persistentEntity.getVertexClassName());
+        }
+    }
+
+    /**
+     * Delete the given vertices with {@code DELETE VERTEX} commands of up to {@link #ID_CHUNK_SIZE} record IDs each,
+     * within a single OrientDB transaction unless a Spring-managed one is active.
+     */
+    private void deleteVertices(ODatabaseSession session, List<ORID> orids) {
+        boolean localTransaction = !isTransactionActive(session);
+        if (localTransaction) {
+            session.begin();
+        }
+        try {
+            for (int start = 0; start < orids.size(); start += ID_CHUNK_SIZE) {
+                List<ORID> chunk = orids.subList(start, Math.min(start + ID_CHUNK_SIZE, orids.size()));
+                String command = "DELETE VERTEX " + toRidList(chunk);
+                recordQuery(command, null, () -> {
+                    session.command(command).close();
+                    return chunk;
+                }, List::size);
+            }
+            if (localTransaction) {
+                session.commit();
+            }
+        } catch (RuntimeException e) {
+            if (localTransaction) {
+                session.rollback();
+            }
+            throw e;
+        }
+        
+        if (entityCache != null) {
+            orids.forEach(entityCache::evict);
+        }
+    }
+
+    /**
+     * Returns whether any application listener handles {@link BeforeDeleteEvent}s. Events also reach the listeners
+     * of parent contexts, so those are inspected as well, including listener beans that are not instantiated yet.
+     * Listeners can only be inspected on an {@link AbstractApplicationContext}, any other publisher is assumed to
+     * have some.
+     */
+    private boolean hasBeforeDeleteListeners() {
+        if (eventPublisher == null) {
+            return false;
+        }
+        
+        ResolvableType eventType = ResolvableType.forClass(BeforeDeleteEvent.class);
+        Object publisher = eventPublisher;
+        while (publisher != null) {
+            if (!(publisher instanceof AbstractApplicationContext context)) {
+                return true;
+            }
+            try {
+                if (hasListener(context, eventType)) {
+                    return true;
+                }
+            } catch (IllegalStateException e) {
+                // Handle contexts that are not active (anymore) by publishing anyway
+                return true;
+            }
+            publisher = context.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the given context itself has a listener that may handle events of the given type. Listener
+     * beans whose event type can't be resolved without creating them are assumed to handle it.
+     */
+    private static boolean hasListener(AbstractApplicationContext context, ResolvableType eventType) {
+        for (ApplicationListener<?> listener : context.getApplicationListeners()) {
+            if (new GenericApplicationListenerAdapter(listener).supportsEventType(eventType)) {
+                return true;
+            }
+        }
+        
+        // Handle lazy and non-singleton listener beans, which are only registered by name
+        for (String beanName : context.getBeanNamesForType(ApplicationListener.class, true, false)) {
+            Class<?> listenerType = context.getType(beanName, false);
+            if (listenerType == null) {
+                return true;
+            }
+            ResolvableType declaredType = ResolvableType.forClass(listenerType)
+                .as(ApplicationListener.class)
+                .getGeneric();
+            if (declaredType.resolve() == null || declaredType.isAssignableFrom(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reject writes within read-only Spring-managed transactions, which run without an OrientDB transaction.
+     */
+    private void assertWritable() {
+        SessionHolder holder = (SessionHolder) 
+            TransactionSynchronizationManager.getResource(databasePool);
+        if (holder != null && holder.isReadOnly()) {
+            throw new InvalidDataAccessApiUsageException("Write operations are not allowed in a read-only transaction");
+        }
+    }
+
     /**
      * Check if the session is part of an active Spring-managed transaction.
      */
@@ -390,6 +1180,20 @@ public class OrientDBTemplate implements OrientDBOperations, ApplicationContextA
         return holder != null && holder.isTransactionActive();
     }
 
+    /**
+     * Render record IDs as an OrientDB RID list literal, e.g. {@code [#12:0, #12:1]}.
+     */
+    private static String toRidList(List<ORID> orids) {
+        StringBuilder ridList = new StringBuilder(orids.size() * 10).append('[');
+        for (int i = 0; i < orids.size(); i++) {
+            if (i > 0) {
+                ridList.append(", ");
+            }
+            ridList.append(orids.get(i).toString());
+        }
+        return ridList.append(']').toString();
+    }
+
     /**
      * Convert an ID object to an ORID.
      */
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.core;
+
+import org.springframework.data.orientdb.core.OrientDBOperations.DatabaseCallback;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface that specifies a basic set of reactive OrientDB operations, the reactive counterpart of
+ * {@link OrientDBOperations}.
+ *
+ * <p>Implemented by {@link ReactiveOrientDBTemplate}. OrientDB only offers a blocking API, so implementations run the
+ * operations on a dedicated scheduler. Query results are emitted as they are read from the result set, according
+ * to the demand of the subscriber. Reactive operations do not take part in Spring-managed transactions.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public interface ReactiveOrientDBOperations {
+
+    /**
+     * Save an entity to OrientDB.
+     *
+     * @param entity the entity to save
+     * @param <T> the entity type
+     * @return a Mono emitting the saved entity with updated ID and version
+     */
+    <T> Mono<T> save(T entity);
+
+    /**
+     * Save multiple entities to OrientDB in batches.
+     *
+     * @param entities the entities to save
+     * @param <T> the entity type
+     * @return a Flux emitting the saved entities with updated IDs and versions
+     */
+    <T> Flux<T> saveAll(Iterable<T> entities);
+
+    /**
+     * Find an entity by its ID.
+     *
+     * @param id the entity ID
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Mono emitting the entity, or completing empty if not found
+     */
+    <T> Mono<T> findById(Object id, Class<T> entityClass);
+
+    /**
+     * Find all entities with the given IDs using a single session.
+     *
+     * @param ids the entity IDs
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Flux emitting the entities found, in the order of the given IDs
+     */
+    <T> Flux<T> findAllById(Iterable<?> ids, Class<T> entityClass);
+
+    /**
+     * Find all entities of a given type.
+     *
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Flux streaming all entities
+     */
+    <T> Flux<T> findAll(Class<T> entityClass);
+
+    /**
+     * Delete an entity by its ID.
+     *
+     * @param id the entity ID
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Mono completing once the entity is deleted
+     */
+    <T> Mono<Void> deleteById(Object id, Class<T> entityClass);
+
+    /**
+     * Delete an entity.
+     *
+     * @param entity the entity to delete
+     * @param <T> the entity type
+     * @return a Mono completing once the entity is deleted
+     */
+    <T> Mono<Void> delete(T entity);
+
+    /**
+     * Delete the entities with the given IDs in bulk.
+     *
+     * @param ids the entity IDs
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Mono completing once the entities are deleted
+     * @since 1.6.0
+     */
+    <T> Mono<Void> deleteAllById(Iterable<?> ids, Class<T> entityClass);
+
+    /**
+     * Delete the given entities in bulk.
+     *
+     * @param entities the entities to delete
+     * @param <T> the entity type
+     * @return a Mono completing once the entities are deleted
+     * @since 1.6.0
+     */
+    <T> Mono<Void> deleteAll(Iterable<? extends T> entities);
+
+    /**
+     * Delete all entities of a given type.
+     *
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Mono completing once the entities are deleted
+     */
+    <T> Mono<Void> deleteAll(Class<T> entityClass);
+
+    /**
+     * Count all entities of a given type.
+     *
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Mono emitting the count of entities
+     */
+    <T> Mono<Long> count(Class<T> entityClass);
+
+    /**
+     * Check if an entity exists by its ID.
+     *
+     * @param id the entity ID
+     * @param entityClass the entity class
+     * @param <T> the entity type
+     * @return a Mono emitting whether the entity exists
+     */
+    <T> Mono<Boolean> existsById(Object id, Class<T> entityClass);
+
+    /**
+     * Execute a custom SQL query, streaming the results. Rows are fetched from the result set as the subscriber
+     * requests them, which keeps a session of the pool open until the Flux completes or is cancelled.
+     *
+     * @param query the SQL query
+     * @param entityClass the entity class for result mapping
+     * @param params query parameters
+     * @param <T> the entity type
+     * @return a Flux streaming the entities matching the query
+     */
+    <T> Flux<T> query(String query, Class<T> entityClass, Object... params);
+
+    /**
+     * Execute a custom SQL query and return a single result.
+     *
+     * @param query the SQL query
+     * @param entityClass the entity class for result mapping
+     * @param params query parameters
+     * @param <T> the entity type
+     * @return a Mono emitting the entity, or completing empty if not found
+     */
+    <T> Mono<T> querySingle(String query, Class<T> entityClass, Object... params);
+
+    /**
+     * Execute a custom SQL query and map each result row to the given projection type.
+     *
+     * @param query the SQL query
+     * @param projectionType the projection interface or DTO class
+     * @param params query parameters
+     * @param <T> the projection type
+     * @return a Flux emitting the projections
+     * @see OrientDBOperations#queryForProjection(String, Class, Object...)
+     */
+    <T> Flux<T> queryForProjection(String query, Class<T> projectionType, Object... params);
+
+    /**
+     * Execute a query selecting a single value and emit the value of the first property of the first row.
+     *
+     * @param query the SQL query
+     * @param params query parameters
+     * @return a Mono emitting the value, {@literal 0} if the query returns no row
+     * @see OrientDBOperations#queryForLong(String, Object...)
+     * @since 1.6.0
+     */
+    Mono<Long> queryForLong(String query, Object... params);
+
+    /**
+     * Execute a query and emit whether it yields any row.
+     *
+     * @param query the SQL query
+     * @param params query parameters
+     * @return a Mono emitting {@literal true} if the query returns at least one row
+     * @see OrientDBOperations#queryExists(String, Object...)
+     * @since 1.6.0
+     */
+    Mono<Boolean> queryExists(String query, Object... params);
+
+    /**
+     * Execute a command (INSERT, UPDATE, DELETE).
+     *
+     * @param command the SQL command
+     * @param params command parameters
+     * @return a Mono emitting the number of affected records
+     */
+    Mono<Integer> command(String command, Object... params);
+
+    /**
+     * Execute a callback with a database session.
+     *
+     * @param callback the callback to execute
+     * @param <T> the return type
+     * @return a Mono emitting the result of the callback, or completing empty if it returned {@literal null}
+     */
+    <T> Mono<T> execute(DatabaseCallback<T> callback);
+
+    /**
+     * Get the OrientDB mapping context.
+     *
+     * @return the mapping context
+     */
+    OrientDBMappingContext getMappingContext();
+
+}
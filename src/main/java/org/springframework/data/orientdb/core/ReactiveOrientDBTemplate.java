@@ -0,0 +1,459 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.core;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.orientdb.core.OrientDBOperations.DatabaseCallback;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Default implementation of {@link ReactiveOrientDBOperations}, running the blocking operations of an
+ * {@link OrientDBOperations} on a bounded {@link Scheduler}.
+ *
+ * <p>Queries are streamed from the OrientDB result set: rows are only fetched and converted as the subscriber
+ * requests them, so slow subscribers apply backpressure to the database instead of buffering the whole result.
+ * Opening, pulling and closing a streamed query, including closing it on cancellation, all run on one
+ * {@link Scheduler.Worker}, which keeps the session of the query on the thread that opened it.</p>
+ *
+ * <p>A streamed query holds its session until it completes or is cancelled, also while waiting for demand, so the
+ * number of operations in progress is limited to the maximum number of sessions. Operations subscribed beyond that
+ * limit are queued without blocking a thread and start as others finish, so no scheduler thread waits for a session
+ * held by an operation queued behind it. Sessions used outside of this template count against the pool as well.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactiveOrientDBTemplate implements ReactiveOrientDBOperations, DisposableBean {
+
+    /**
+     * Name of the scheduler threads created by {@link #ReactiveOrientDBTemplate(OrientDBOperations, int)}.
+     */
+    public static final String SCHEDULER_NAME = "orientdb-reactive";
+
+    private static final int SCHEDULER_TTL_SECONDS = 60;
+
+    private final OrientDBOperations operations;
+    private final Scheduler scheduler;
+    private final boolean ownScheduler;
+    private final SessionPermits permits;
+
+    /**
+     * Create a new ReactiveOrientDBTemplate running at most {@code maxConcurrency} operations at once on a bounded
+     * elastic scheduler with as many threads. {@code maxConcurrency} should match the maximum size of the database
+     * pool. The scheduler is disposed with the template.
+     *
+     * @param operations the blocking OrientDB operations
+     * @param maxConcurrency the maximum number of operations in progress at once
+     */
+    public ReactiveOrientDBTemplate(OrientDBOperations operations, int maxConcurrency) {
+        this(operations, Schedulers.newBoundedElastic(maxConcurrency, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            SCHEDULER_NAME, SCHEDULER_TTL_SECONDS, true), maxConcurrency, true);
+    }
+
+    /**
+     * Create a new ReactiveOrientDBTemplate running operations on the given {@link Scheduler} without limiting the
+     * number of operations in progress. The workers of the scheduler must run their tasks on a single thread, as
+     * those of {@link Schedulers#boundedElastic()} do. The scheduler is not disposed with the template.
+     *
+     * @param operations the blocking OrientDB operations
+     * @param scheduler the scheduler to run operations on
+     */
+    public ReactiveOrientDBTemplate(OrientDBOperations operations, Scheduler scheduler) {
+        this(operations, scheduler, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Create a new ReactiveOrientDBTemplate running at most {@code maxConcurrency} operations at once on the given
+     * {@link Scheduler}. The workers of the scheduler must run their tasks on a single thread, as those of
+     * {@link Schedulers#boundedElastic()} do. The scheduler is not disposed with the template.
+     *
+     * @param operations the blocking OrientDB operations
+     * @param scheduler the scheduler to run operations on
+     * @param maxConcurrency the maximum number of operations in progress at once, usually the maximum pool size
+     */
+    public ReactiveOrientDBTemplate(OrientDBOperations operations, Scheduler scheduler, int maxConcurrency) {
+        this(operations, scheduler, maxConcurrency, false);
+    }
+
+    private ReactiveOrientDBTemplate(OrientDBOperations operations, Scheduler scheduler, int maxConcurrency,
+            boolean ownScheduler) {
+        Assert.notNull(operations, "OrientDBOperations must not be null");
+        Assert.notNull(scheduler, "Scheduler must not be null");
+        Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+        this.operations = operations;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+        this.permits = new SessionPermits(maxConcurrency);
+    }
+
+    /**
+     * Returns the blocking operations the reactive operations run.
+     *
+     * @return the OrientDB operations
+     */
+    public OrientDBOperations getOperations() {
+        return operations;
+    }
+
+    /**
+     * Returns the scheduler the operations run on.
+     *
+     * @return the scheduler
+     */
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public <T> Mono<T> save(T entity) {
+        Assert.notNull(entity, "Entity must not be null");
+        return mono(() -> operations.save(entity));
+    }
+
+    @Override
+    public <T> Flux<T> saveAll(Iterable<T> entities) {
+        Assert.notNull(entities, "Entities must not be null");
+        return flux(() -> operations.saveAll(entities));
+    }
+
+    @Override
+    public <T> Mono<T> findById(Object id, Class<T> entityClass) {
+        Assert.notNull(id, "ID must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return mono(() -> operations.findById(id, entityClass).orElse(null));
+    }
+
+    @Override
+    public <T> Flux<T> findAllById(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "IDs must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return flux(() -> operations.findAllById(ids, entityClass));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> entityClass) {
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return stream(() -> operations.streamAll(entityClass));
+    }
+
+    @Override
+    public <T> Mono<Void> deleteById(Object id, Class<T> entityClass) {
+        Assert.notNull(id, "ID must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return run(() -> operations.deleteById(id, entityClass));
+    }
+
+    @Override
+    public <T> Mono<Void> delete(T entity) {
+        Assert.notNull(entity, "Entity must not be null");
+        return run(() -> operations.delete(entity));
+    }
+
+    @Override
+    public <T> Mono<Void> deleteAllById(Iterable<?> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "IDs must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return run(() -> operations.deleteAllById(ids, entityClass));
+    }
+
+    @Override
+    public <T> Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        Assert.notNull(entities, "Entities must not be null");
+        return run(() -> operations.deleteAll(entities));
+    }
+
+    @Override
+    public <T> Mono<Void> deleteAll(Class<T> entityClass) {
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return run(() -> operations.deleteAll(entityClass));
+    }
+
+    @Override
+    public <T> Mono<Long> count(Class<T> entityClass) {
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return mono(() -> operations.count(entityClass));
+    }
+
+    @Override
+    public <T> Mono<Boolean> existsById(Object id, Class<T> entityClass) {
+        Assert.notNull(id, "ID must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return mono(() -> operations.existsById(id, entityClass));
+    }
+
+    @Override
+    public <T> Flux<T> query(String query, Class<T> entityClass, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        
+        return stream(() -> operations.stream(query, entityClass, params));
+    }
+
+    @Override
+    public <T> Mono<T> querySingle(String query, Class<T> entityClass, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(entityClass, "Entity class must not be null");
+        return mono(() -> operations.querySingle(query, entityClass, params).orElse(null));
+    }
+
+    @Override
+    public <T> Flux<T> queryForProjection(String query, Class<T> projectionType, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        Assert.notNull(projectionType, "Projection type must not be null");
+        return stream(() -> operations.streamForProjection(query, projectionType, params));
+    }
+
+    @Override
+    public Mono<Long> queryForLong(String query, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        return mono(() -> operations.queryForLong(query, params));
+    }
+
+    @Override
+    public Mono<Boolean> queryExists(String query, Object... params) {
+        Assert.notNull(query, "Query must not be null");
+        return mono(() -> operations.queryExists(query, params));
+    }
+
+    @Override
+    public Mono<Integer> command(String command, Object... params) {
+        Assert.notNull(command, "Command must not be null");
+        return mono(() -> operations.command(command, params));
+    }
+
+    @Override
+    public <T> Mono<T> execute(DatabaseCallback<T> callback) {
+        Assert.notNull(callback, "Callback must not be null");
+        return mono(() -> operations.execute(callback));
+    }
+
+    @Override
+    public OrientDBMappingContext getMappingContext() {
+        return operations.getMappingContext();
+    }
+
+    @Override
+    public void destroy() {
+        if (ownScheduler) {
+            scheduler.dispose();
+        }
+    }
+
+    private <T> Mono<T> mono(Supplier<T> action) {
+        return stream(() -> Stream.ofNullable(action.get())).next();
+    }
+
+    private Mono<Void> run(Runnable action) {
+        return stream(() -> {
+            action.run();
+            return Stream.<Void>empty();
+        }).then();
+    }
+
+    private <T> Flux<T> flux(Supplier<? extends Iterable<T>> action) {
+        return stream(() -> StreamSupport.stream(action.get().spliterator(), false));
+    }
+
+    /**
+     * Emit the elements of the given stream as they are requested, once a session permit is available. The stream is
+     * opened, advanced and closed on a single worker of the scheduler, whichever thread requests or cancels.
+     */
+    private <T> Flux<T> stream(Supplier<Stream<T>> action) {
+        return Flux.create(sink -> new WorkerBoundStream<>(action, sink, scheduler.createWorker(), permits).start());
+    }
+
+    /**
+     * Drains a {@link Stream} into a {@link FluxSink} from a single {@link Scheduler.Worker}. Requests and
+     * cancellation only schedule work on the worker, so the stream and its session are never touched concurrently.
+     * The stream is only opened once a permit is granted, which is released after the stream has been closed.
+     */
+    private static class WorkerBoundStream<T> {
+
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int DISPOSED = 2;
+
+        private final Supplier<Stream<T>> action;
+        private final FluxSink<T> sink;
+        private final Scheduler.Worker worker;
+        private final SessionPermits permits;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        // Only accessed from the worker
+        private Stream<T> stream;
+        private Iterator<T> iterator;
+        private boolean done;
+
+        WorkerBoundStream(Supplier<Stream<T>> action, FluxSink<T> sink, Scheduler.Worker worker,
+                SessionPermits permits) {
+            this.action = action;
+            this.sink = sink;
+            this.worker = worker;
+            this.permits = permits;
+        }
+
+        void start() {
+            sink.onRequest(n -> request());
+            sink.onDispose(this::dispose);
+            permits.acquire(this::granted);
+        }
+
+        private void granted() {
+            if (state.compareAndSet(WAITING, GRANTED)) {
+                request();
+            } else {
+                // Handle a subscription cancelled while waiting by passing the permit on
+                permits.release();
+            }
+        }
+
+        private void request() {
+            // Handle requests arriving while the worker is draining by draining again
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                worker.schedule(this::drain);
+            } catch (RejectedExecutionException e) {
+                sink.error(e);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                emit();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done || state.get() != GRANTED) {
+                return;
+            }
+            try {
+                while (!sink.isCancelled() && sink.requestedFromDownstream() > 0) {
+                    if (iterator == null) {
+                        stream = action.get();
+                        iterator = stream.iterator();
+                    }
+                    if (!iterator.hasNext()) {
+                        close();
+                        sink.complete();
+                        return;
+                    }
+                    sink.next(iterator.next());
+                }
+            } catch (Throwable e) {
+                close();
+                sink.error(e);
+            }
+        }
+
+        private void dispose() {
+            if (state.compareAndSet(WAITING, DISPOSED)) {
+                // Handle a subscription cancelled before its permit was granted, the stream was never opened
+                worker.dispose();
+                return;
+            }
+            try {
+                worker.schedule(() -> {
+                    close();
+                    worker.dispose();
+                });
+            } catch (RejectedExecutionException e) {
+                // Handle a disposed scheduler by closing on the calling thread, nothing else can use the stream
+                close();
+                worker.dispose();
+            }
+        }
+
+        private void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                if (stream != null) {
+                    Stream<T> current = stream;
+                    stream = null;
+                    current.close();
+                }
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Non-blocking counting semaphore handing out permits to callbacks. Callbacks waiting for a permit are queued
+     * and run, on the releasing thread, as permits become available.
+     */
+    private static class SessionPermits {
+
+        private final AtomicInteger available;
+        private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+        SessionPermits(int permits) {
+            this.available = new AtomicInteger(permits);
+        }
+
+        void acquire(Runnable onGranted) {
+            waiting.offer(onGranted);
+            drain();
+        }
+
+        void release() {
+            available.incrementAndGet();
+            drain();
+        }
+
+        private void drain() {
+            while (!waiting.isEmpty()) {
+                int current = available.get();
+                if (current == 0) {
+                    return;
+                }
+                if (!available.compareAndSet(current, current - 1)) {
+                    continue;
+                }
+                Runnable onGranted = waiting.poll();
+                if (onGranted == null) {
+                    // Handle another thread having taken the last waiting callback
+                    available.incrementAndGet();
+                    continue;
+                }
+                onGranted.run();
+            }
+        }
+    }
+}
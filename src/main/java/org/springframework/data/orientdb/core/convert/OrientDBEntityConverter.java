@@ -18,35 +18,76 @@ package org.springframework.data.orientdb.core.convert;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResult;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.Parameter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.orientdb.core.OrientDBMappingContext;
 import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
 import org.springframework.data.orientdb.core.mapping.OrientDBPersistentProperty;
 import org.springframework.data.orientdb.core.mapping.event.EntityCallbackHandler;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Converter for mapping between domain entities and OrientDB vertices.
  * Handles the conversion of properties and nested objects.
  *
+ * <p>Entities are materialized through their persistence constructor when it takes arguments, so immutable
+ * classes and records are created in a single step with values read straight from the vertex.</p>
+ *
+ * <p>Each entity type is mapped through a {@link MappingPlan} compiled once per type. The plan holds the
+ * class-generating {@link EntityInstantiator}, the properties to read and write and a converter per property
+ * resolved up front, so mapping a row performs no metadata lookups or conversion service dispatch for values
+ * that already have the target type.</p>
+ *
  * @author Spring Data OrientDB Team
  * @since 1.0
  */
 public class OrientDBEntityConverter {
 
+    private static final String VERSION_PROPERTY = "@version";
+
     private final OrientDBMappingContext mappingContext;
     private final ConversionService conversionService;
+    private final EntityInstantiators instantiators = new EntityInstantiators();
+    private final Map<Class<?>, MappingPlan> plans = new ConcurrentHashMap<>();
 
     public OrientDBEntityConverter(OrientDBMappingContext mappingContext) {
         Assert.notNull(mappingContext, "MappingContext must not be null");
         this.mappingContext = mappingContext;
         this.conversionService = DefaultConversionService.getSharedInstance();
+
+        // Compile plans for entities the mapping context already knows about
+        for (OrientDBPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            plans.computeIfAbsent(entity.getType(), type -> new MappingPlan(entity));
+        }
+    }
+
+    /**
+     * Compile the mapping plan of the given entity type ahead of the first read or write.
+     *
+     * @param type the entity type
+     * @since 1.6.0
+     */
+    public void prepare(Class<?> type) {
+        getPlan(type);
     }
 
     /**
@@ -62,54 +103,48 @@ public class OrientDBEntityConverter {
             return null;
         }
 
-        OrientDBPersistentEntity<?> entity = 
-            (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(type);
-
-        @SuppressWarnings("unchecked")
-        T instance = org.springframework.beans.BeanUtils.instantiateClass(type);
-
-        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
-        ConvertingPropertyAccessor<?> convertingAccessor = 
-            new ConvertingPropertyAccessor<>(accessor, conversionService);
+        return read(getPlan(type), vertex.getIdentity(), vertex::getProperty);
+    }
 
-        // Set the ID
-        OrientDBPersistentProperty idProperty = entity.getIdProperty();
-        if (idProperty != null) {
-            convertingAccessor.setProperty(idProperty, vertex.getIdentity());
+    /**
+     * Read an entity or DTO from an OrientDB query result. Results of projecting queries are expected to expose the
+     * record identity and version under the names of the ID and version properties, e.g.
+     * {@code SELECT @rid AS id, name FROM User}.
+     *
+     * @param type the entity or DTO type
+     * @param result the OrientDB result
+     * @param <T> the result type
+     * @return the entity instance
+     * @since 1.6.0
+     */
+    public <T> T read(Class<T> type, OResult result) {
+        if (result == null) {
+            return null;
         }
 
-        // Set all properties
-        entity.doWithProperties((OrientDBPersistentProperty property) -> {
-            if (!property.isIdProperty() && !property.isVersionProperty()) {
-                String fieldName = property.getName();
-                Object value = vertex.getProperty(fieldName);
-                
-                if (value != null) {
-                    // Convert Date to LocalDateTime if needed
-                    if (value instanceof Date && property.getActualType().equals(LocalDateTime.class)) {
-                        value = LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault());
-                    } else if (value instanceof Date && property.getActualType().equals(LocalDate.class)) {
-                        value = LocalDate.from(((Date) value).toInstant().atZone(ZoneId.systemDefault()));
-                    }
-                    
-                    convertingAccessor.setProperty(property, value);
-                }
-            }
-        });
-
-        // Set version if present
-        OrientDBPersistentProperty versionProperty = entity.getVersionProperty();
-        if (versionProperty != null) {
-            Integer version = vertex.getProperty("@version");
-            if (version != null) {
-                convertingAccessor.setProperty(versionProperty, version);
-            }
+        MappingPlan plan = getPlan(type);
+        if (result.isElement()) {
+            return read(plan, result.getIdentity().orElse(null), result::getProperty);
         }
 
-        // Invoke @PostLoad callback
-        EntityCallbackHandler.invokePostLoad(instance);
+        Object identity = plan.idName != null ? result.getProperty(plan.idName) : null;
+        return read(plan, identity, name -> result.getProperty(VERSION_PROPERTY.equals(name) ? plan.versionName : name));
+    }
 
-        return instance;
+    /**
+     * Read an entity from a detached record, e.g. a cached snapshot. The record version is expected under the
+     * {@code @version} key.
+     *
+     * @param type the entity type
+     * @param identity the record ID
+     * @param properties the record properties
+     * @param <T> the entity type
+     * @return the entity instance
+     * @since 1.6.0
+     */
+    public <T> T read(Class<T> type, Object identity, Map<String, Object> properties) {
+        Assert.notNull(properties, "Properties must not be null");
+        return read(getPlan(type), identity, properties::get);
     }
 
     /**
@@ -123,30 +158,236 @@ public class OrientDBEntityConverter {
         Assert.notNull(entity, "Entity must not be null");
         Assert.notNull(vertex, "Vertex must not be null");
 
-        OrientDBPersistentEntity<?> persistentEntity = 
-            (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(entity.getClass());
-
-        PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(entity);
+        MappingPlan plan = getPlan(entity.getClass());
+        PersistentPropertyAccessor<?> accessor = plan.entity.getPropertyAccessor(entity);
 
         // Write all properties except ID and version (those are managed by OrientDB)
-        persistentEntity.doWithProperties((OrientDBPersistentProperty property) -> {
-            if (!property.isIdProperty() && !property.isVersionProperty() && !property.isTransient()) {
-                String fieldName = property.getName();
-                Object value = accessor.getProperty(property);
-                
+        for (PropertyPlan property : plan.properties) {
+            Object value = accessor.getProperty(property.property);
+            vertex.setProperty(property.name, value != null ? property.writeConverter.apply(value) : null);
+        }
+    }
+
+    /**
+     * Read an entity from the given record identity and property source. Entities with a persistence constructor
+     * (including records) receive their values as constructor arguments; only the remaining properties are set
+     * afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(MappingPlan plan, Object identity, Function<String, Object> source) {
+        ParameterValueProvider<OrientDBPersistentProperty> parameterValueProvider = plan.hasCreatorArguments
+            ? new SourceParameterValueProvider(plan, identity, source)
+            : NoParameterValueProvider.INSTANCE;
+        Object instance = plan.instantiator.createInstance(plan.entity, parameterValueProvider);
+
+        if (plan.settableProperties.length > 0) {
+            PersistentPropertyAccessor<?> accessor = plan.entity.getPropertyAccessor(instance);
+
+            // Set the ID, all properties and the version unless passed to the constructor
+            for (PropertyPlan property : plan.settableProperties) {
+                Object value = readValue(property, identity, source);
                 if (value != null) {
-                    // Convert LocalDateTime to Date for OrientDB storage
-                    if (value instanceof LocalDateTime) {
-                        value = Date.from(((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant());
-                    } else if (value instanceof LocalDate) {
-                        value = Date.from(((LocalDate) value).atStartOfDay(ZoneId.systemDefault()).toInstant());
-                    }
+                    accessor.setProperty(property.property, value);
                 }
-                
-                vertex.setProperty(fieldName, value);
             }
-        });
+
+            instance = accessor.getBean();
+        }
+
+        T result = (T) instance;
+
+        // Invoke @PostLoad callback
+        EntityCallbackHandler.invokePostLoad(result);
+
+        return result;
     }
 
-}
+    /**
+     * Read the converted value of the given property, {@literal null} if absent.
+     */
+    private static Object readValue(PropertyPlan property, Object identity, Function<String, Object> source) {
+        Object value = property.sourceName != null ? source.apply(property.sourceName) : identity;
+        return value != null ? property.readConverter.apply(value) : null;
+    }
+
+    private MappingPlan getPlan(Class<?> type) {
+        MappingPlan plan = plans.get(type);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(type, key -> new MappingPlan(
+                (OrientDBPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(key)));
+        }
+        return plan;
+    }
+
+    /**
+     * Creates the converter applied to values read from OrientDB for the given property.
+     */
+    private Function<Object, Object> createReadConverter(OrientDBPersistentProperty property) {
+        Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+
+        // Convert Date to LocalDateTime/LocalDate if needed
+        if (LocalDateTime.class.equals(targetType)) {
+            return value -> value instanceof Date date
+                ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault())
+                : convert(value, targetType);
+        }
+        if (LocalDate.class.equals(targetType)) {
+            return value -> value instanceof Date date
+                ? LocalDate.from(date.toInstant().atZone(ZoneId.systemDefault()))
+                : convert(value, targetType);
+        }
 
+        return value -> convert(value, targetType);
+    }
+
+    /**
+     * Creates the converter applied to property values written to OrientDB for the given property.
+     */
+    private static Function<Object, Object> createWriteConverter(OrientDBPersistentProperty property) {
+        Class<?> type = property.getType();
+
+        // Only properties able to hold java.time values need the conversion to Date
+        if (!type.isAssignableFrom(LocalDateTime.class) && !type.isAssignableFrom(LocalDate.class)) {
+            return Function.identity();
+        }
+
+        return value -> {
+            // Convert LocalDateTime to Date for OrientDB storage
+            if (value instanceof LocalDateTime localDateTime) {
+                return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
+            } else if (value instanceof LocalDate localDate) {
+                return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+            }
+            return value;
+        };
+    }
+
+    private Object convert(Object value, Class<?> targetType) {
+        return targetType.isInstance(value) ? value : conversionService.convert(value, targetType);
+    }
+
+    /**
+     * Read and write plan of a single entity type, compiled once.
+     */
+    private final class MappingPlan {
+
+        private final OrientDBPersistentEntity<?> entity;
+        private final EntityInstantiator instantiator;
+        private final boolean hasCreatorArguments;
+        private final String idName;
+        private final String versionName;
+        private final Map<String, PropertyPlan> propertiesByName = new HashMap<>();
+        private final PropertyPlan[] properties;
+        private final PropertyPlan[] settableProperties;
+
+        MappingPlan(OrientDBPersistentEntity<?> entity) {
+            this.entity = entity;
+            this.instantiator = instantiators.getInstantiatorFor(entity);
+
+            InstanceCreatorMetadata<OrientDBPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+            this.hasCreatorArguments = creator != null && creator.hasParameters();
+
+            List<PropertyPlan> mapped = new ArrayList<>();
+            List<PropertyPlan> settable = new ArrayList<>();
+
+            // The ID comes from the record identity, the version from the record version
+            OrientDBPersistentProperty id = entity.getIdProperty();
+            this.idName = id != null ? id.getName() : null;
+            if (id != null) {
+                register(new PropertyPlan(id, null), settable);
+            }
+
+            entity.doWithProperties((OrientDBPersistentProperty property) -> {
+                if (!property.isIdProperty() && !property.isVersionProperty() && !property.isTransient()) {
+                    PropertyPlan plan = new PropertyPlan(property, property.getName());
+                    mapped.add(plan);
+                    register(plan, settable);
+                }
+            });
+
+            OrientDBPersistentProperty version = entity.getVersionProperty();
+            this.versionName = version != null ? version.getName() : null;
+            if (version != null) {
+                register(new PropertyPlan(version, VERSION_PROPERTY), settable);
+            }
+
+            this.properties = mapped.toArray(new PropertyPlan[0]);
+            this.settableProperties = settable.toArray(new PropertyPlan[0]);
+        }
+
+        private void register(PropertyPlan plan, List<PropertyPlan> settable) {
+            propertiesByName.put(plan.property.getName(), plan);
+            if (!entity.isCreatorArgument(plan.property)) {
+                settable.add(plan);
+            }
+        }
+    }
+
+    /**
+     * A mapped property along with its precomputed converters.
+     */
+    private final class PropertyPlan {
+
+        private final OrientDBPersistentProperty property;
+        private final String name;
+        private final String sourceName;
+        private final Object nullValue;
+        private final Function<Object, Object> readConverter;
+        private final Function<Object, Object> writeConverter;
+
+        PropertyPlan(OrientDBPersistentProperty property, String sourceName) {
+            this.property = property;
+            this.name = property.getName();
+            this.sourceName = sourceName;
+            this.nullValue = property.getType().isPrimitive()
+                ? Array.get(Array.newInstance(property.getType(), 1), 0)
+                : null;
+            this.readConverter = createReadConverter(property);
+            this.writeConverter = createWriteConverter(property);
+        }
+    }
+
+    /**
+     * {@link ParameterValueProvider} reading constructor arguments straight from the record being read. Absent
+     * values of primitive parameters resolve to the primitive default.
+     */
+    private static final class SourceParameterValueProvider implements ParameterValueProvider<OrientDBPersistentProperty> {
+
+        private final MappingPlan plan;
+        private final Object identity;
+        private final Function<String, Object> source;
+
+        SourceParameterValueProvider(MappingPlan plan, Object identity, Function<String, Object> source) {
+            this.plan = plan;
+            this.identity = identity;
+            this.source = source;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getParameterValue(Parameter<T, OrientDBPersistentProperty> parameter) {
+            PropertyPlan property = parameter.getName() != null ? plan.propertiesByName.get(parameter.getName()) : null;
+            if (property == null) {
+                throw new MappingException("No property " + parameter.getName() + " found for constructor parameter of "
+                    + plan.entity.getType().getName());
+            }
+
+            Object value = readValue(property, identity, source);
+            return (T) (value != null ? value : property.nullValue);
+        }
+    }
+
+    /**
+     * {@link ParameterValueProvider} for entities instantiated through their no-argument constructor.
+     */
+    private enum NoParameterValueProvider implements ParameterValueProvider<OrientDBPersistentProperty> {
+
+        INSTANCE;
+
+        @Override
+        public <T> T getParameterValue(Parameter<T, OrientDBPersistentProperty> parameter) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.core.mapping.event;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published after a batch of entities has been saved and committed by
+ * {@link org.springframework.data.orientdb.core.OrientDBOperations#saveAll(Iterable, int)}.
+ * Allows bulk writers to track progress per batch.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class AfterSaveBatchEvent extends ApplicationEvent {
+
+    private final List<?> entities;
+    private final int batchIndex;
+
+    public AfterSaveBatchEvent(List<?> entities, int batchIndex) {
+        super(entities);
+        this.entities = entities;
+        this.batchIndex = batchIndex;
+    }
+
+    /**
+     * Returns the saved entities of this batch.
+     */
+    public List<?> getEntities() {
+        return entities;
+    }
+
+    /**
+     * Returns the zero-based index of this batch within the save operation.
+     */
+    public int getBatchIndex() {
+        return batchIndex;
+    }
+
+    /**
+     * Returns the number of entities saved in this batch.
+     */
+    public int getSize() {
+        return entities.size();
+    }
+
+}
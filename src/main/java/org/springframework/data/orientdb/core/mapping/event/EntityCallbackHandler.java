@@ -15,22 +15,38 @@
  */
 package org.springframework.data.orientdb.core.mapping.event;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.orientdb.core.schema.PostLoad;
 import org.springframework.data.orientdb.core.schema.PrePersist;
 import org.springframework.data.orientdb.core.schema.PreRemove;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 /**
  * Handles invocation of entity lifecycle callback methods.
  * Supports @PrePersist, @PostLoad, and @PreRemove annotations.
  *
+ * <p>The callback methods of an entity class are resolved once and cached as {@link MethodHandle}s. Classes
+ * without callbacks resolve to empty handle arrays, so invoking their callbacks only costs a cache lookup.</p>
+ *
  * @author Spring Data OrientDB Team
  * @since 1.3.0
  */
 public class EntityCallbackHandler {
 
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final Map<Class<?>, Callbacks> CALLBACKS = new ConcurrentReferenceHashMap<>();
+
     /**
      * Invoke @PrePersist methods on the entity before saving.
      */
@@ -39,13 +55,7 @@ public class EntityCallbackHandler {
             return;
         }
 
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(entity.getClass());
-        for (Method method : methods) {
-            if (method.isAnnotationPresent(PrePersist.class)) {
-                ReflectionUtils.makeAccessible(method);
-                ReflectionUtils.invokeMethod(method, entity);
-            }
-        }
+        invoke(getCallbacks(entity.getClass()).prePersist, entity);
     }
 
     /**
@@ -56,13 +66,7 @@ public class EntityCallbackHandler {
             return;
         }
 
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(entity.getClass());
-        for (Method method : methods) {
-            if (method.isAnnotationPresent(PostLoad.class)) {
-                ReflectionUtils.makeAccessible(method);
-                ReflectionUtils.invokeMethod(method, entity);
-            }
-        }
+        invoke(getCallbacks(entity.getClass()).postLoad, entity);
     }
 
     /**
@@ -73,14 +77,82 @@ public class EntityCallbackHandler {
             return;
         }
 
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(entity.getClass());
-        for (Method method : methods) {
-            if (method.isAnnotationPresent(PreRemove.class)) {
-                ReflectionUtils.makeAccessible(method);
-                ReflectionUtils.invokeMethod(method, entity);
+        invoke(getCallbacks(entity.getClass()).preRemove, entity);
+    }
+
+    /**
+     * Returns whether the given entity class declares @PreRemove methods, e.g. to decide whether entities need to be
+     * loaded before a bulk delete.
+     *
+     * @param type the entity class
+     * @return {@literal true} if @PreRemove methods are present
+     * @since 1.6.0
+     */
+    public static boolean hasPreRemoveCallbacks(Class<?> type) {
+        return getCallbacks(type).preRemove.length > 0;
+    }
+
+    private static Callbacks getCallbacks(Class<?> type) {
+        Callbacks callbacks = CALLBACKS.get(type);
+        if (callbacks == null) {
+            callbacks = CALLBACKS.computeIfAbsent(type, Callbacks::resolve);
+        }
+        return callbacks;
+    }
+
+    private static void invoke(MethodHandle[] handles, Object entity) {
+        for (MethodHandle handle : handles) {
+            try {
+                handle.invokeExact(entity);
+            } catch (Throwable ex) {
+                ReflectionUtils.rethrowRuntimeException(ex);
             }
         }
     }
 
-}
+    /**
+     * The resolved callback methods of a single entity class.
+     */
+    private static final class Callbacks {
+
+        private static final MethodHandle[] NONE = new MethodHandle[0];
+
+        private final MethodHandle[] prePersist;
+        private final MethodHandle[] postLoad;
+        private final MethodHandle[] preRemove;
+
+        private Callbacks(MethodHandle[] prePersist, MethodHandle[] postLoad, MethodHandle[] preRemove) {
+            this.prePersist = prePersist;
+            this.postLoad = postLoad;
+            this.preRemove = preRemove;
+        }
 
+        static Callbacks resolve(Class<?> type) {
+            Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
+            return new Callbacks(
+                findHandles(methods, PrePersist.class),
+                findHandles(methods, PostLoad.class),
+                findHandles(methods, PreRemove.class));
+        }
+
+        private static MethodHandle[] findHandles(Method[] methods, Class<? extends Annotation> annotation) {
+            List<MethodHandle> handles = new ArrayList<>();
+            for (Method method : methods) {
+                if (method.isAnnotationPresent(annotation)) {
+                    ReflectionUtils.makeAccessible(method);
+                    try {
+                        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                        if (Modifier.isStatic(method.getModifiers())) {
+                            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                        }
+                        handles.add(handle.asType(CALLBACK_TYPE));
+                    } catch (IllegalAccessException ex) {
+                        throw new IllegalStateException("Cannot access callback method " + method, ex);
+                    }
+                }
+            }
+            return handles.isEmpty() ? NONE : handles.toArray(NONE);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.observability;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OAcquireTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ODatabasePool} publishing Micrometer metrics on pool usage once {@link #bindTo(MeterRegistry) bound} to a
+ * registry. All meters are tagged with {@value #POOL_TAG}, the database name:
+ * <ul>
+ *   <li>orientdb.pool.sessions - Gauge of sessions by {@code state}, {@code active} for acquired and not yet closed
+ *   sessions, {@code idle} for the remaining capacity up to the maximum pool size</li>
+ *   <li>orientdb.pool.sessions.max - Gauge of the maximum pool size</li>
+ *   <li>orientdb.pool.pending - Gauge of threads waiting to acquire a session</li>
+ *   <li>orientdb.pool.acquire - Timer of the time spent acquiring sessions, with percentiles</li>
+ *   <li>orientdb.pool.acquire.timeouts - Counter of acquire attempts that timed out</li>
+ * </ul>
+ * High acquire times and pending threads with no idle sessions indicate pool starvation rather than slow queries.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class InstrumentedDatabasePool extends ODatabasePool {
+
+    /**
+     * Tag holding the database name.
+     */
+    public static final String POOL_TAG = "pool";
+
+    private final String databaseName;
+    private final int maxSize;
+    private final Set<ODatabaseSession> acquired = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile Timer acquireTimer;
+    private volatile Counter timeoutCounter;
+
+    /**
+     * Creates a new {@link InstrumentedDatabasePool}.
+     *
+     * @param orientDB the OrientDB environment
+     * @param databaseName the database name
+     * @param username the username
+     * @param password the password
+     * @param configuration the pool configuration
+     * @param maxSize the maximum pool size configured in {@code configuration}
+     */
+    public InstrumentedDatabasePool(OrientDB orientDB, String databaseName, String username, String password,
+            OrientDBConfig configuration, int maxSize) {
+        super(orientDB, databaseName, username, password, configuration);
+        this.databaseName = databaseName;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Register the pool meters with the given registry. Subsequent calls are ignored.
+     *
+     * @param registry the registry to publish to
+     */
+    public synchronized void bindTo(MeterRegistry registry) {
+        Assert.notNull(registry, "MeterRegistry must not be null");
+        if (acquireTimer != null) {
+            return;
+        }
+
+        Gauge.builder("orientdb.pool.sessions", this, InstrumentedDatabasePool::getActiveSessions)
+            .description("Number of sessions by state")
+            .tag(POOL_TAG, databaseName)
+            .tag("state", "active")
+            .register(registry);
+        Gauge.builder("orientdb.pool.sessions", this, pool -> Math.max(0, pool.maxSize - pool.getActiveSessions()))
+            .description("Number of sessions by state")
+            .tag(POOL_TAG, databaseName)
+            .tag("state", "idle")
+            .register(registry);
+        Gauge.builder("orientdb.pool.sessions.max", this, pool -> pool.maxSize)
+            .description("Maximum number of sessions")
+            .tag(POOL_TAG, databaseName)
+            .register(registry);
+        Gauge.builder("orientdb.pool.pending", pending, AtomicInteger::get)
+            .description("Number of threads waiting to acquire a session")
+            .tag(POOL_TAG, databaseName)
+            .register(registry);
+        timeoutCounter = Counter.builder("orientdb.pool.acquire.timeouts")
+            .description("Number of session acquire attempts that timed out")
+            .tag(POOL_TAG, databaseName)
+            .register(registry);
+        acquireTimer = Timer.builder("orientdb.pool.acquire")
+            .description("Time spent acquiring sessions")
+            .tag(POOL_TAG, databaseName)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+    }
+
+    @Override
+    public ODatabaseSession acquire() throws OAcquireTimeoutException {
+        pending.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            ODatabaseSession session = super.acquire();
+            acquired.add(session);
+            return session;
+        } catch (OAcquireTimeoutException e) {
+            Counter counter = timeoutCounter;
+            if (counter != null) {
+                counter.increment();
+            }
+            throw e;
+        } finally {
+            pending.decrementAndGet();
+            Timer timer = acquireTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Return the number of sessions acquired from this pool and not closed yet.
+     */
+    public int getActiveSessions() {
+        // Pooled sessions are reused, so the set is bounded by the pool size
+        acquired.removeIf(ODatabaseSession::isClosed);
+        return acquired.size();
+    }
+
+    /**
+     * Return the number of threads currently waiting to acquire a session.
+     */
+    public int getPendingAcquires() {
+        return pending.get();
+    }
+
+    /**
+     * Return the maximum pool size.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -20,18 +20,61 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Provides metrics collection for OrientDB operations using Micrometer.
  * Tracks repository operation counts, timings, and errors.
  *
+ * <p>Timers are tagged with {@value #ENTITY_TAG} (the simple name of the entity class),
+ * {@value #METHOD_TAG} (the template operation or {@code Repository.method}) and {@value #OUTCOME_TAG}
+ * ({@code success} or {@code error}) and publish the 50th, 95th and 99th percentiles. Tag values are derived from
+ * classes and method names only, never from query strings or parameters. The number of timers is additionally
+ * capped at {@link #DEFAULT_MAXIMUM_TIMERS}, further method names are reported as {@value #OTHER}.</p>
+ *
  * @author Spring Data OrientDB Team
  * @since 1.5.0
  */
 public class OrientDBMetrics {
     
+    /**
+     * Tag holding the simple name of the entity class.
+     *
+     * @since 1.6.0
+     */
+    public static final String ENTITY_TAG = "entity";
+    
+    /**
+     * Tag holding the template operation or repository method.
+     *
+     * @since 1.6.0
+     */
+    public static final String METHOD_TAG = "method";
+    
+    /**
+     * Tag holding the outcome of the operation, {@code success} or {@code error}.
+     *
+     * @since 1.6.0
+     */
+    public static final String OUTCOME_TAG = "outcome";
+    
+    /**
+     * Default maximum number of distinct timers.
+     *
+     * @since 1.6.0
+     */
+    public static final int DEFAULT_MAXIMUM_TIMERS = 1000;
+    
+    private static final String NONE = "none";
+    private static final String OTHER = "other";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    
     private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private int maximumTimers = DEFAULT_MAXIMUM_TIMERS;
     
     // Counters
     private Counter saveCounter;
@@ -40,11 +83,33 @@ public class OrientDBMetrics {
     private Counter queryCounter;
     private Counter errorCounter;
     
-    // Timers
-    private Timer saveTimer;
-    private Timer findTimer;
-    private Timer deleteTimer;
-    private Timer queryTimer;
+    /**
+     * Kinds of timed operations.
+     *
+     * @since 1.6.0
+     */
+    public enum Operation {
+        
+        SAVE("orientdb.repository.save.time", "Time spent in save operations"),
+        FIND("orientdb.repository.find.time", "Time spent in find operations"),
+        DELETE("orientdb.repository.delete.time", "Time spent in delete operations"),
+        QUERY("orientdb.repository.query.time", "Time spent in query operations");
+        
+        private final String timerName;
+        private final String description;
+        
+        Operation(String timerName, String description) {
+            this.timerName = timerName;
+            this.description = description;
+        }
+        
+        /**
+         * Returns the name of the timer recording this operation.
+         */
+        public String getTimerName() {
+            return timerName;
+        }
+    }
     
     @Autowired(required = false)
     public OrientDBMetrics(MeterRegistry meterRegistry) {
@@ -75,23 +140,17 @@ public class OrientDBMetrics {
         errorCounter = Counter.builder("orientdb.repository.errors")
             .description("Number of operation errors")
             .register(meterRegistry);
-        
-        // Initialize timers
-        saveTimer = Timer.builder("orientdb.repository.save.time")
-            .description("Time spent in save operations")
-            .register(meterRegistry);
-            
-        findTimer = Timer.builder("orientdb.repository.find.time")
-            .description("Time spent in find operations")
-            .register(meterRegistry);
-            
-        deleteTimer = Timer.builder("orientdb.repository.delete.time")
-            .description("Time spent in delete operations")
-            .register(meterRegistry);
-            
-        queryTimer = Timer.builder("orientdb.repository.query.time")
-            .description("Time spent in query operations")
-            .register(meterRegistry);
+    }
+    
+    /**
+     * Set the maximum number of distinct timers. Once reached, timers for further methods are recorded with
+     * {@value #METHOD_TAG} {@value #OTHER}.
+     *
+     * @param maximumTimers the maximum number of timers
+     * @since 1.6.0
+     */
+    public void setMaximumTimers(int maximumTimers) {
+        this.maximumTimers = maximumTimers;
     }
     
     public void recordSave() {
@@ -124,53 +183,111 @@ public class OrientDBMetrics {
         }
     }
     
-    public <T> T recordSaveTime(java.util.function.Supplier<T> operation) {
-        if (saveTimer != null) {
-            long start = System.nanoTime();
-            try {
-                return operation.get();
-            } finally {
-                saveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    public <T> T recordSaveTime(Supplier<T> operation) {
+        return time(Operation.SAVE, null, null, operation);
+    }
+    
+    public <T> T recordFindTime(Supplier<T> operation) {
+        return time(Operation.FIND, null, null, operation);
+    }
+    
+    public void recordDeleteTime(Runnable operation) {
+        time(Operation.DELETE, null, null, () -> {
+            operation.run();
+            return null;
+        });
+    }
+    
+    public <T> T recordQueryTime(Supplier<T> operation) {
+        return time(Operation.QUERY, null, null, operation);
+    }
+    
+    /**
+     * Run and time the given operation, counting it and any error it throws.
+     *
+     * @param operation the kind of operation
+     * @param entityType the entity class, may be {@literal null}
+     * @param method the template operation or repository method, may be {@literal null}
+     * @param action the operation to run
+     * @return the result of the operation
+     * @since 1.6.0
+     */
+    public <T> T record(Operation operation, Class<?> entityType, String method, Supplier<T> action) {
+        if (meterRegistry == null) {
+            return action.get();
+        }
+        
+        boolean success = false;
+        try {
+            T result = time(operation, entityType, method, action);
+            success = true;
+            return result;
+        } finally {
+            counter(operation).increment();
+            if (!success) {
+                errorCounter.increment();
             }
         }
-        return operation.get();
     }
     
-    public <T> T recordFindTime(java.util.function.Supplier<T> operation) {
-        if (findTimer != null) {
-            long start = System.nanoTime();
-            try {
-                return operation.get();
-            } finally {
-                findTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
-            }
+    /**
+     * Run and time the given operation without counting it.
+     */
+    private <T> T time(Operation operation, Class<?> entityType, String method, Supplier<T> action) {
+        if (meterRegistry == null) {
+            return action.get();
+        }
+        
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            long duration = System.nanoTime() - start;
+            timer(operation, entityType, method, success).record(duration, TimeUnit.NANOSECONDS);
         }
-        return operation.get();
     }
     
-    public void recordDeleteTime(Runnable operation) {
-        if (deleteTimer != null) {
-            long start = System.nanoTime();
-            try {
-                operation.run();
-            } finally {
-                deleteTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
-            }
-        } else {
-            operation.run();
+    private Timer timer(Operation operation, Class<?> entityType, String method, boolean success) {
+        TimerKey key = new TimerKey(operation, entityType, method != null ? method : NONE, success);
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
         }
+        
+        // Handle cardinality overflow by folding further methods into a single timer
+        if (timers.size() >= maximumTimers) {
+            key = new TimerKey(operation, entityType, OTHER, success);
+        }
+        return timers.computeIfAbsent(key, this::registerTimer);
     }
     
-    public <T> T recordQueryTime(java.util.function.Supplier<T> operation) {
-        if (queryTimer != null) {
-            long start = System.nanoTime();
-            try {
-                return operation.get();
-            } finally {
-                queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
-            }
+    private Timer registerTimer(TimerKey key) {
+        return Timer.builder(key.operation().timerName)
+            .description(key.operation().description)
+            .tag(ENTITY_TAG, key.entityType() != null ? key.entityType().getSimpleName() : NONE)
+            .tag(METHOD_TAG, key.method())
+            .tag(OUTCOME_TAG, key.success() ? "success" : "error")
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry);
+    }
+    
+    private Counter counter(Operation operation) {
+        switch (operation) {
+            case SAVE:
+                return saveCounter;
+            case FIND:
+                return findCounter;
+            case DELETE:
+                return deleteCounter;
+            case QUERY:
+            default:
+                return queryCounter;
         }
-        return operation.get();
+    }
+    
+    private record TimerKey(Operation operation, Class<?> entityType, String method, boolean success) {
     }
 }
-
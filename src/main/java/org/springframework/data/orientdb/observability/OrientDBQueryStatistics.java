@@ -0,0 +1,341 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.observability;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.util.Assert;
+
+/**
+ * Aggregates execution statistics of the queries and commands run by
+ * {@link org.springframework.data.orientdb.core.OrientDBTemplate} per query fingerprint, and logs slow queries.
+ *
+ * <p>A fingerprint is the SQL with string, numeric and record ID literals replaced by {@code ?}, literal lists
+ * collapsed and whitespace normalized, so that all executions of a repository finder share one entry. Count, total
+ * and maximum time and returned rows are kept in {@link LongAdder}s, recording does not lock. Queries exceeding
+ * the {@link #setSlowQueryThreshold(Duration) slow query threshold} are logged at WARN level with their fingerprint
+ * and parameter types only, parameter values are never logged.</p>
+ *
+ * <p>Exported as a JMX MBean when MBean export is enabled, e.g. through {@code @EnableMBeanExport} or Spring Boot's
+ * {@code spring.jmx.enabled}.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+@ManagedResource(objectName = "org.springframework.data.orientdb:type=QueryStatistics",
+    description = "OrientDB query statistics per query fingerprint")
+public class OrientDBQueryStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrientDBQueryStatistics.class);
+
+    /**
+     * Default threshold above which queries are logged as slow.
+     */
+    public static final Duration DEFAULT_SLOW_QUERY_THRESHOLD = Duration.ofMillis(500);
+
+    /**
+     * Default maximum number of distinct fingerprints.
+     */
+    public static final int DEFAULT_MAXIMUM_FINGERPRINTS = 1000;
+
+    /**
+     * Fingerprint under which queries beyond the maximum number of fingerprints are aggregated.
+     */
+    public static final String OTHER = "<other>";
+
+    private static final int MAXIMUM_CACHED_FINGERPRINTS = 10_000;
+    private static final Pattern LIST_PATTERN = Pattern.compile("\\[\\?(?: ?, ?\\?)+]");
+    private static final Pattern IN_LIST_PATTERN = Pattern.compile("\\(\\?(?: ?, ?\\?)+\\)");
+
+    private final Map<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private volatile long slowQueryThresholdNanos = DEFAULT_SLOW_QUERY_THRESHOLD.toNanos();
+    private int maximumFingerprints = DEFAULT_MAXIMUM_FINGERPRINTS;
+
+    /**
+     * Set the threshold above which queries are logged as slow. {@link Duration#ZERO} logs every query, a negative
+     * duration disables slow query logging.
+     *
+     * @param slowQueryThreshold the threshold
+     */
+    public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+        Assert.notNull(slowQueryThreshold, "Slow query threshold must not be null");
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    /**
+     * Return the threshold above which queries are logged as slow.
+     */
+    public Duration getSlowQueryThreshold() {
+        return Duration.ofNanos(slowQueryThresholdNanos);
+    }
+
+    @ManagedAttribute(description = "Threshold in milliseconds above which queries are logged as slow")
+    public long getSlowQueryThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowQueryThresholdNanos);
+    }
+
+    @ManagedAttribute(description = "Threshold in milliseconds above which queries are logged as slow")
+    public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+    }
+
+    /**
+     * Set the maximum number of distinct fingerprints. Further queries are aggregated under {@link #OTHER}.
+     *
+     * @param maximumFingerprints the maximum number of fingerprints
+     */
+    public void setMaximumFingerprints(int maximumFingerprints) {
+        Assert.isTrue(maximumFingerprints > 0, "Maximum fingerprints must be greater than zero");
+        this.maximumFingerprints = maximumFingerprints;
+    }
+
+    /**
+     * Record one execution of the given query.
+     *
+     * @param sql the executed SQL
+     * @param params the query parameters, only their types are ever logged
+     * @param durationNanos the execution time in nanoseconds
+     * @param rows the number of returned or affected rows
+     */
+    public void record(String sql, Object[] params, long durationNanos, long rows) {
+        String fingerprint = fingerprintOf(sql);
+        Aggregate aggregate = aggregates.get(fingerprint);
+        if (aggregate == null) {
+            // Handle cardinality overflow by folding further fingerprints into a single entry
+            String key = aggregates.size() < maximumFingerprints ? fingerprint : OTHER;
+            aggregate = aggregates.computeIfAbsent(key, k -> new Aggregate());
+        }
+        aggregate.record(durationNanos, rows);
+
+        long threshold = slowQueryThresholdNanos;
+        if (threshold >= 0 && durationNanos >= threshold && logger.isWarnEnabled()) {
+            logger.warn("Slow OrientDB query took {} ms and returned {} rows: {} with parameters {}",
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), rows, fingerprint, redact(params));
+        }
+    }
+
+    /**
+     * Return a snapshot of the statistics of all fingerprints, ordered by descending total time.
+     */
+    public List<QueryStatistics> getStatistics() {
+        List<QueryStatistics> statistics = new ArrayList<>(aggregates.size());
+        aggregates.forEach((fingerprint, aggregate) -> statistics.add(aggregate.snapshot(fingerprint)));
+        statistics.sort(Comparator.comparingLong(QueryStatistics::totalTimeNanos).reversed());
+        return statistics;
+    }
+
+    /**
+     * Return the statistics of the given number of fingerprints with the highest total time.
+     *
+     * @param limit the maximum number of fingerprints
+     */
+    public List<QueryStatistics> getTopQueries(int limit) {
+        List<QueryStatistics> statistics = getStatistics();
+        return statistics.size() > limit ? new ArrayList<>(statistics.subList(0, limit)) : statistics;
+    }
+
+    @ManagedOperation(description = "Statistics of the fingerprints with the highest total time")
+    public List<Map<String, Object>> topQueries(int limit) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (QueryStatistics statistics : getTopQueries(limit)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("fingerprint", statistics.fingerprint());
+            row.put("count", statistics.count());
+            row.put("totalTimeMillis", TimeUnit.NANOSECONDS.toMillis(statistics.totalTimeNanos()));
+            row.put("maxTimeMillis", TimeUnit.NANOSECONDS.toMillis(statistics.maxTimeNanos()));
+            row.put("meanTimeMillis", statistics.meanTimeNanos() / 1_000_000d);
+            row.put("rows", statistics.rows());
+            result.add(row);
+        }
+        return result;
+    }
+
+    @ManagedAttribute(description = "Number of distinct query fingerprints")
+    public int getFingerprintCount() {
+        return aggregates.size();
+    }
+
+    @ManagedOperation(description = "Discard all statistics")
+    public void reset() {
+        aggregates.clear();
+    }
+
+    /**
+     * Return the fingerprint of the given SQL, caching it for repeated query strings.
+     */
+    private String fingerprintOf(String sql) {
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = fingerprint(sql);
+            if (fingerprints.size() < MAXIMUM_CACHED_FINGERPRINTS) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Normalize the given SQL to a fingerprint. String, numeric and record ID literals are replaced by {@code ?},
+     * lists of placeholders are collapsed to a single one and whitespace runs are reduced to a single space.
+     *
+     * @param sql the SQL to normalize
+     * @return the fingerprint
+     */
+    public static String fingerprint(String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                // Handle string literals, including escaped and doubled quotes
+                i++;
+                while (i < length) {
+                    char s = sql.charAt(i++);
+                    if (s == '\\') {
+                        i++;
+                    } else if (s == c) {
+                        if (i < length && sql.charAt(i) == c) {
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+                result.append('?');
+            } else if (c == '#' && i + 1 < length && isRidChar(sql.charAt(i + 1))) {
+                // Handle record ID literals such as #12:3
+                i++;
+                while (i < length && (isRidChar(sql.charAt(i)) || sql.charAt(i) == ':')) {
+                    i++;
+                }
+                result.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierEnd(result)) {
+                // Handle numeric literals
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                result.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (result.length() > 0) {
+                    result.append(' ');
+                }
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+
+        String fingerprint = result.toString().trim();
+        fingerprint = LIST_PATTERN.matcher(fingerprint).replaceAll("[?]");
+        return IN_LIST_PATTERN.matcher(fingerprint).replaceAll("(?)");
+    }
+
+    private static boolean isRidChar(char c) {
+        return Character.isDigit(c) || c == '-';
+    }
+
+    private static boolean isIdentifierEnd(StringBuilder sql) {
+        if (sql.length() == 0) {
+            return false;
+        }
+        char last = sql.charAt(sql.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$' || last == '@';
+    }
+
+    /**
+     * Describe the given parameters by their types only.
+     */
+    private static String redact(Object[] params) {
+        if (params == null || params.length == 0) {
+            return "[]";
+        }
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object param : params) {
+            if (param instanceof Map<?, ?> named) {
+                named.forEach((name, value) -> joiner.add(name + "=" + typeOf(value)));
+            } else {
+                joiner.add(typeOf(param));
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static String typeOf(Object value) {
+        return value != null ? value.getClass().getSimpleName() : "null";
+    }
+
+    /**
+     * Snapshot of the statistics of one query fingerprint.
+     *
+     * @param fingerprint the normalized query
+     * @param count the number of executions
+     * @param totalTimeNanos the total execution time in nanoseconds
+     * @param maxTimeNanos the maximum execution time in nanoseconds
+     * @param rows the total number of returned or affected rows
+     */
+    public record QueryStatistics(String fingerprint, long count, long totalTimeNanos, long maxTimeNanos, long rows) {
+
+        /**
+         * Return the mean execution time in nanoseconds.
+         */
+        public double meanTimeNanos() {
+            return count > 0 ? (double) totalTimeNanos / count : 0;
+        }
+    }
+
+    /**
+     * Lock-free aggregate of one query fingerprint.
+     */
+    private static final class Aggregate {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+
+        void record(long durationNanos, long rowCount) {
+            count.increment();
+            totalTimeNanos.add(durationNanos);
+            maxTimeNanos.accumulate(durationNanos);
+            rows.add(rowCount);
+        }
+
+        QueryStatistics snapshot(String fingerprint) {
+            return new QueryStatistics(fingerprint, count.sum(), totalTimeNanos.sum(), maxTimeNanos.get(), rows.sum());
+        }
+    }
+}
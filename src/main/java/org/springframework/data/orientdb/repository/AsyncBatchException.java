@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Exception completing an async batch operation of an {@link AsyncOrientDBRepository} when some of its chunks failed.
+ * Chunks run independently, so the chunks not listed in {@link #getFailures()} were applied. The cause is the failure
+ * of the first failed chunk, the others are added as suppressed exceptions.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class AsyncBatchException extends DataAccessException {
+
+    private final List<ChunkFailure> failures;
+    private final int chunkCount;
+
+    /**
+     * Create a new AsyncBatchException.
+     *
+     * @param operation the batch operation, used in the message
+     * @param failures the failed chunks, must not be empty
+     * @param chunkCount the total number of chunks of the operation
+     */
+    public AsyncBatchException(String operation, List<ChunkFailure> failures, int chunkCount) {
+        super(String.format("%s failed for %d of %d chunks", operation, failures.size(), chunkCount),
+            failures.get(0).cause());
+        this.failures = List.copyOf(failures);
+        this.chunkCount = chunkCount;
+        for (int i = 1; i < failures.size(); i++) {
+            addSuppressed(failures.get(i).cause());
+        }
+    }
+
+    /**
+     * Returns the failed chunks, ordered by their position in the input.
+     *
+     * @return the chunk failures
+     */
+    public List<ChunkFailure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the total number of chunks of the operation.
+     *
+     * @return the chunk count
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * A chunk of an async batch operation that failed.
+     *
+     * @param chunk the index of the chunk
+     * @param offset the position of the first element of the chunk in the input
+     * @param size the number of elements in the chunk
+     * @param cause the exception the chunk failed with
+     */
+    public record ChunkFailure(int chunk, int offset, int size, Throwable cause) {
+    }
+}
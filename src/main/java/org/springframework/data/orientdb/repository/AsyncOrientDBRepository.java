@@ -16,7 +16,6 @@
 package org.springframework.data.orientdb.repository;
 
 import org.springframework.data.repository.NoRepositoryBean;
-import org.springframework.scheduling.annotation.Async;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,23 +34,10 @@ import java.util.concurrent.CompletableFuture;
  * }
  * </pre>
  *
- * <p>Note: To use async repositories, enable async processing in your configuration:
- * <pre>
- * &#64;Configuration
- * &#64;EnableAsync
- * public class AsyncConfig {
- *     &#64;Bean
- *     public Executor taskExecutor() {
- *         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
- *         executor.setCorePoolSize(2);
- *         executor.setMaxPoolSize(10);
- *         executor.setQueueCapacity(500);
- *         executor.setThreadNamePrefix("orientdb-async-");
- *         executor.initialize();
- *         return executor;
- *     }
- * }
- * </pre>
+ * <p>The operations run on a dedicated executor rather than the common fork-join pool, see
+ * {@link org.springframework.data.orientdb.repository.support.OrientDBAsyncExecutors}. A custom executor is configured
+ * through {@link org.springframework.data.orientdb.repository.config.EnableOrientDBRepositories#asyncExecutorRef()}.
+ * Async operations run outside of the caller's transaction.
  *
  * @param <T> the domain type the repository manages
  * @param <ID> the type of the id of the entity the repository manages
@@ -67,7 +53,6 @@ public interface AsyncOrientDBRepository<T, ID> extends OrientDBRepository<T, ID
      * @param id must not be {@literal null}.
      * @return a CompletableFuture wrapping the entity with the given id or {@literal Optional#empty()} if none found.
      */
-    @Async
     CompletableFuture<Optional<T>> findByIdAsync(ID id);
 
     /**
@@ -75,7 +60,6 @@ public interface AsyncOrientDBRepository<T, ID> extends OrientDBRepository<T, ID
      *
      * @return a CompletableFuture wrapping all entities
      */
-    @Async
     CompletableFuture<List<T>> findAllAsync();
 
     /**
@@ -84,34 +68,54 @@ public interface AsyncOrientDBRepository<T, ID> extends OrientDBRepository<T, ID
      * @param entity must not be {@literal null}.
      * @return a CompletableFuture wrapping the saved entity
      */
-    @Async
     CompletableFuture<T> saveAsync(T entity);
 
     /**
-     * Asynchronously saves all given entities.
+     * Asynchronously saves all given entities. The entities are split into chunks which are saved in parallel on
+     * separate sessions, each chunk in its own transaction.
      *
      * @param entities must not be {@literal null}.
-     * @return a CompletableFuture wrapping the saved entities
+     * @return a CompletableFuture wrapping the saved entities in the order given, completing with an
+     * {@link AsyncBatchException} if any chunk failed
      */
-    @Async
     CompletableFuture<List<T>> saveAllAsync(Iterable<T> entities);
 
+    /**
+     * Asynchronously retrieves all entities with the given ids, looking up chunks of ids in parallel on separate
+     * sessions.
+     *
+     * @param ids must not be {@literal null}.
+     * @return a CompletableFuture wrapping the entities found in the order of the given ids, completing with an
+     * {@link AsyncBatchException} if any chunk failed
+     * @since 1.6.0
+     */
+    CompletableFuture<List<T>> findAllByIdAsync(Iterable<ID> ids);
+
     /**
      * Asynchronously deletes the entity with the given id.
      *
      * @param id must not be {@literal null}.
      * @return a CompletableFuture that completes when the delete operation is done
      */
-    @Async
     CompletableFuture<Void> deleteByIdAsync(ID id);
 
+    /**
+     * Asynchronously deletes the entities with the given ids, deleting chunks of ids in parallel on separate
+     * sessions, each chunk in its own transaction.
+     *
+     * @param ids must not be {@literal null}.
+     * @return a CompletableFuture that completes when all chunks are deleted, or with an {@link AsyncBatchException}
+     * if any chunk failed
+     * @since 1.6.0
+     */
+    CompletableFuture<Void> deleteAllByIdAsync(Iterable<? extends ID> ids);
+
     /**
      * Asynchronously deletes a given entity.
      *
      * @param entity must not be {@literal null}.
      * @return a CompletableFuture that completes when the delete operation is done
      */
-    @Async
     CompletableFuture<Void> deleteAsync(T entity);
 
     /**
@@ -119,7 +123,6 @@ public interface AsyncOrientDBRepository<T, ID> extends OrientDBRepository<T, ID
      *
      * @return a CompletableFuture wrapping the number of entities
      */
-    @Async
     CompletableFuture<Long> countAsync();
 
     /**
@@ -128,7 +131,6 @@ public interface AsyncOrientDBRepository<T, ID> extends OrientDBRepository<T, ID
      * @param id must not be {@literal null}.
      * @return a CompletableFuture wrapping true if an entity with the given id exists, false otherwise.
      */
-    @Async
     CompletableFuture<Boolean> existsByIdAsync(ID id);
 }
 
@@ -16,9 +16,12 @@
 package org.springframework.data.orientdb.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -35,6 +38,8 @@ import org.springframework.data.repository.query.QueryByExampleExecutor;
  *     
  *     &#64;Query("SELECT FROM User WHERE email = :email")
  *     User findByEmail(&#64;Param("email") String email);
+ *
+ *     Stream&lt;User&gt; findByDepartment(String department);
  * }
  * </pre>
  *
@@ -74,6 +79,55 @@ public interface OrientDBRepository<T, ID>
      */
     List<T> query(String query, Object... params);
 
+    /**
+     * Returns a window of entities following the given scroll position.
+     * Keyset positions seek past the last returned entity instead of skipping rows,
+     * so deep windows cost about the same as the first one.
+     *
+     * <pre>
+     * Window&lt;User&gt; window = repository.scroll(ScrollPosition.keyset(), Sort.by("name"), 50);
+     * while (window.hasNext()) {
+     *     window = repository.scroll(window.positionAt(window.size() - 1), Sort.by("name"), 50);
+     * }
+     * </pre>
+     *
+     * @param scrollPosition the position to continue from, e.g. {@link ScrollPosition#keyset()}
+     * @param sort the sort order, extended with {@code @rid} to make it unique
+     * @param limit the maximum number of entities in the window
+     * @return the window of entities
+     */
+    Window<T> scroll(ScrollPosition scrollPosition, Sort sort, int limit);
+
+    /**
+     * Returns a window of entities matching the given example following the given scroll position.
+     *
+     * @param example the example to match
+     * @param scrollPosition the position to continue from, e.g. {@link ScrollPosition#keyset()}
+     * @param sort the sort order, extended with {@code @rid} to make it unique
+     * @param limit the maximum number of entities in the window
+     * @param <S> the probe type
+     * @return the window of matching entities
+     */
+    <S extends T> Window<S> scroll(Example<S> example, ScrollPosition scrollPosition, Sort sort, int limit);
+
+    /**
+     * Streams all entities without loading them into memory at once.
+     * The returned stream must be closed after use.
+     *
+     * @return stream of all entities
+     */
+    Stream<T> streamAll();
+
+    /**
+     * Executes a custom SQL query and streams the results.
+     * The returned stream must be closed after use.
+     *
+     * @param query the SQL query to execute
+     * @param params query parameters
+     * @return stream of entities matching the query
+     */
+    Stream<T> stream(String query, Object... params);
+
     /**
      * Executes a custom SQL query and returns a single result.
      *
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * OrientDB specific {@link ReactiveCrudRepository}. Query methods return {@link reactor.core.publisher.Flux} or
+ * {@link reactor.core.publisher.Mono} and are derived from the method name or declared through {@link
+ * org.springframework.data.orientdb.repository.query.Query}, just like on {@link OrientDBRepository}.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * public interface UserRepository extends ReactiveOrientDBRepository&lt;User, String&gt; {
+ *     Flux&lt;User&gt; findByDepartment(String department);
+ *     Mono&lt;User&gt; findByUsername(String username);
+ * }
+ * </pre>
+ *
+ * <p>Reactive repositories are enabled through
+ * {@link org.springframework.data.orientdb.repository.config.EnableReactiveOrientDBRepositories} and run on the
+ * {@link org.springframework.data.orientdb.core.ReactiveOrientDBOperations} bean.</p>
+ *
+ * @param <T> the domain type the repository manages
+ * @param <ID> the type of the id of the entity the repository manages
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+@NoRepositoryBean
+public interface ReactiveOrientDBRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+
+}
@@ -118,6 +118,28 @@ public @interface EnableOrientDBRepositories {
      */
     String orientDBTemplateRef() default "orientDBTemplate";
 
+    /**
+     * Configures the name of a {@link java.util.concurrent.Executor} bean used to run the count query of
+     * {@link org.springframework.data.domain.Page} lookups in parallel with the content query. Counting stays
+     * sequential when left empty, which is the default.
+     *
+     * @since 1.6.0
+     */
+    String pageCountExecutorRef() default "";
+
+    /**
+     * Configures the name of a {@link java.util.concurrent.Executor} bean running the operations of
+     * {@link org.springframework.data.orientdb.repository.AsyncOrientDBRepository} instances. Its concurrency should
+     * match the maximum size of the database pool. Uses the
+     * {@link org.springframework.data.orientdb.repository.support.OrientDBAsyncExecutors#BEAN_NAME} bean, sized to
+     * the pool by {@link org.springframework.data.orientdb.config.AbstractOrientDBConfiguration}, when left empty,
+     * which is the default, or
+     * {@link org.springframework.data.orientdb.repository.support.OrientDBAsyncExecutors#getDefault()} without one.
+     *
+     * @since 1.6.0
+     */
+    String asyncExecutorRef() default "";
+
     /**
      * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
      * repositories infrastructure.
@@ -26,6 +26,7 @@ import org.springframework.data.orientdb.repository.support.OrientDBRepositoryFa
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.StringUtils;
 
 /**
  * OrientDB-specific implementation of {@link org.springframework.data.repository.config.RepositoryConfigurationExtension}.
@@ -36,6 +37,8 @@ import org.springframework.data.repository.core.RepositoryMetadata;
 public class OrientDBRepositoryConfigurationExtension extends RepositoryConfigurationExtensionSupport {
 
     private static final String ORIENTDB_TEMPLATE_REF = "orientDBTemplateRef";
+    private static final String PAGE_COUNT_EXECUTOR_REF = "pageCountExecutorRef";
+    private static final String ASYNC_EXECUTOR_REF = "asyncExecutorRef";
 
     @Override
     public String getModuleName() {
@@ -57,10 +60,22 @@ public class OrientDBRepositoryConfigurationExtension extends RepositoryConfigur
         return Collections.singleton(OrientDBRepository.class);
     }
 
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        // Reactive repositories are picked up by EnableReactiveOrientDBRepositories
+        return !metadata.isReactiveRepository();
+    }
+
     @Override
     public void postProcess(BeanDefinitionBuilder builder, RepositoryConfigurationSource source) {
         source.getAttribute(ORIENTDB_TEMPLATE_REF)
             .ifPresent(ref -> builder.addPropertyReference("orientDBOperations", ref.toString()));
+        source.getAttribute(PAGE_COUNT_EXECUTOR_REF)
+            .filter(StringUtils::hasText)
+            .ifPresent(ref -> builder.addPropertyReference("pageCountExecutor", ref));
+        source.getAttribute(ASYNC_EXECUTOR_REF)
+            .filter(StringUtils::hasText)
+            .ifPresent(ref -> builder.addPropertyReference("asyncExecutor", ref));
     }
 
 }
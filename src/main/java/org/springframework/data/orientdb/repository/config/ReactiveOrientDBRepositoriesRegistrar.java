@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.config;
+
+import java.lang.annotation.Annotation;
+
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+
+/**
+ * {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar} to enable
+ * {@link EnableReactiveOrientDBRepositories} annotation.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactiveOrientDBRepositoriesRegistrar extends RepositoryBeanDefinitionRegistrarSupport {
+
+    @Override
+    protected Class<? extends Annotation> getAnnotation() {
+        return EnableReactiveOrientDBRepositories.class;
+    }
+
+    @Override
+    protected RepositoryConfigurationExtension getExtension() {
+        return new ReactiveOrientDBRepositoryConfigurationExtension();
+    }
+
+}
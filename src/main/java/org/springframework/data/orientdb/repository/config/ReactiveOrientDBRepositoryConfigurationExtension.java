@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.config;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.orientdb.repository.ReactiveOrientDBRepository;
+import org.springframework.data.orientdb.repository.support.ReactiveOrientDBRepositoryFactoryBean;
+import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+/**
+ * Reactive OrientDB-specific implementation of
+ * {@link org.springframework.data.repository.config.RepositoryConfigurationExtension}.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactiveOrientDBRepositoryConfigurationExtension extends RepositoryConfigurationExtensionSupport {
+
+    private static final String REACTIVE_ORIENTDB_TEMPLATE_REF = "reactiveOrientDBTemplateRef";
+
+    @Override
+    public String getModuleName() {
+        return "Reactive OrientDB";
+    }
+
+    @Override
+    protected String getModulePrefix() {
+        return "orientdb";
+    }
+
+    @Override
+    public String getRepositoryFactoryBeanClassName() {
+        return ReactiveOrientDBRepositoryFactoryBean.class.getName();
+    }
+
+    @Override
+    protected Collection<Class<?>> getIdentifyingTypes() {
+        return Collections.singleton(ReactiveOrientDBRepository.class);
+    }
+
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return metadata.isReactiveRepository();
+    }
+
+    @Override
+    public void postProcess(BeanDefinitionBuilder builder, RepositoryConfigurationSource source) {
+        source.getAttribute(REACTIVE_ORIENTDB_TEMPLATE_REF)
+            .ifPresent(ref -> builder.addPropertyReference("reactiveOrientDBOperations", ref));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import org.springframework.data.orientdb.core.ReactiveOrientDBOperations;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Base class for {@link RepositoryQuery} implementations of reactive repositories, adapting the query results to the
+ * {@link Flux} or {@link Mono} returned by the query method.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public abstract class AbstractReactiveOrientDBQuery implements RepositoryQuery {
+
+    private final OrientDBQueryMethod queryMethod;
+    private final ReactiveOrientDBOperations operations;
+
+    protected AbstractReactiveOrientDBQuery(OrientDBQueryMethod queryMethod, ReactiveOrientDBOperations operations) {
+        Assert.notNull(queryMethod, "QueryMethod must not be null!");
+        Assert.notNull(operations, "ReactiveOrientDBOperations must not be null!");
+
+        this.queryMethod = queryMethod;
+        this.operations = operations;
+    }
+
+    /**
+     * Returns the operations the query runs on.
+     */
+    protected ReactiveOrientDBOperations getOperations() {
+        return operations;
+    }
+
+    /**
+     * Run the given SELECT query, streaming all results for {@link Flux} methods and emitting the first one otherwise.
+     *
+     * @param query the SQL query
+     * @param values the values to bind
+     * @param projecting whether to map the rows to the projection type of the method
+     * @return the {@link Flux} or {@link Mono} of results
+     */
+    protected Object select(String query, Object[] values, boolean projecting) {
+        Class<?> returnType = queryMethod.getReturnedObjectType();
+
+        // Handle projections, mapped from the selected result rows
+        if (projecting) {
+            Flux<?> projections = operations.queryForProjection(query, returnType, values);
+            return queryMethod.isReactiveMultiValueQuery() ? projections : projections.next();
+        }
+
+        return queryMethod.isReactiveMultiValueQuery()
+            ? operations.query(query, returnType, values)
+            : operations.querySingle(query, returnType, values);
+    }
+
+    /**
+     * Run the given COUNT query.
+     *
+     * @param countQuery the SQL query selecting the {@code count} property
+     * @param values the values to bind
+     * @return a {@link Mono} emitting the count
+     */
+    protected Mono<Long> count(String countQuery, Object[] values) {
+        return operations.queryForLong(countQuery, values);
+    }
+
+    /**
+     * Run the given existence query, stopping at the first result.
+     *
+     * @param existsQuery the SQL query selecting matching records
+     * @param values the values to bind
+     * @return a {@link Mono} emitting whether any record matches
+     * @since 1.6.0
+     */
+    protected Mono<Boolean> exists(String existsQuery, Object[] values) {
+        return operations.queryExists(existsQuery, values);
+    }
+
+    @Override
+    public QueryMethod getQueryMethod() {
+        return queryMethod;
+    }
+
+}
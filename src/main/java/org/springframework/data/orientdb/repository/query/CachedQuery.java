@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to cache the results of a repository query method in the
+ * {@link org.springframework.data.orientdb.core.OrientDBQueryResultCache}, keyed by the SQL text and the bound
+ * parameters. Works for derived queries and {@link Query @Query} methods.
+ *
+ * <p>Cached results are invalidated whenever {@link org.springframework.data.orientdb.core.OrientDBTemplate} writes to
+ * the vertex class of the repository's domain type. Entity results are cached as record IDs and loaded through
+ * {@code findAllById} on a hit, so each caller receives its own instances and benefits from the entity cache. Counts
+ * and exists checks are cached as values. Streams, pages, slices, windows, projections and modifying queries are not
+ * cached.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * public interface ProductRepository extends OrientDBRepository&lt;Product, String&gt; {
+ *     
+ *     &#64;CachedQuery
+ *     List&lt;Product&gt; findByStatus(String status);
+ * }
+ * </pre>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ * @see org.springframework.data.orientdb.config.EnableOrientDBCaching
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface CachedQuery {
+
+}
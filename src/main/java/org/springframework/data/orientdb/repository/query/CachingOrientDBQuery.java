@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.orientdb.core.OrientDBOperations;
+import org.springframework.data.orientdb.core.OrientDBQueryResultCache;
+import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} decorator caching the results of a {@link CachedQuery} method in the
+ * {@link OrientDBQueryResultCache}.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+class CachingOrientDBQuery implements RepositoryQuery {
+
+    private final RepositoryQuery delegate;
+    private final OrientDBQueryMethod queryMethod;
+    private final OrientDBOperations operations;
+    private final OrientDBQueryResultCache cache;
+    private final OrientDBPersistentEntity<?> entity;
+    private final String query;
+    private final boolean cacheable;
+    private final boolean entityResult;
+
+    CachingOrientDBQuery(RepositoryQuery delegate, String query, OrientDBQueryMethod queryMethod,
+            OrientDBOperations operations, OrientDBQueryResultCache cache) {
+        Assert.notNull(delegate, "Delegate must not be null!");
+        Assert.hasText(query, "Query must not be empty!");
+        Assert.notNull(cache, "OrientDBQueryResultCache must not be null!");
+
+        this.delegate = delegate;
+        this.query = query;
+        this.queryMethod = queryMethod;
+        this.operations = operations;
+        this.cache = cache;
+        this.entity = (OrientDBPersistentEntity<?>) operations.getMappingContext()
+            .getRequiredPersistentEntity(queryMethod.getEntityInformation().getJavaType());
+
+        Class<?> returnType = queryMethod.getReturnedObjectType();
+        this.entityResult = entity.getType().equals(returnType);
+        this.cacheable = !queryMethod.isStreamQuery() && !queryMethod.isPageQuery() && !queryMethod.isSliceQuery()
+            && !queryMethod.isScrollQuery() && !queryMethod.isModifyingQuery()
+            && !(delegate instanceof PartTreeOrientDBQuery partTreeQuery && partTreeQuery.isDeleteQuery())
+            && (entityResult || isValueType(returnType));
+    }
+
+    @Override
+    public Object execute(Object[] parameters) {
+        if (!cacheable) {
+            return delegate.execute(parameters);
+        }
+
+        String vertexClass = entity.getVertexClassName();
+        Cache.ValueWrapper cached = cache.get(vertexClass, query, parameters);
+        if (cached != null && cached.get() instanceof CachedResult result) {
+            return materialize(result);
+        }
+
+        long generation = cache.getGeneration(vertexClass);
+        Object result = delegate.execute(parameters);
+        cache.put(vertexClass, query, parameters, toCachedResult(result), generation);
+        return result;
+    }
+
+    @Override
+    public QueryMethod getQueryMethod() {
+        return delegate.getQueryMethod();
+    }
+
+    /**
+     * Capture a query result, entities by their IDs.
+     */
+    private CachedResult toCachedResult(Object result) {
+        if (!entityResult) {
+            return new CachedResult(result, null);
+        }
+
+        List<Object> ids = new ArrayList<>();
+        Collection<?> entities = result instanceof Collection<?> collection
+            ? collection
+            : result != null ? Collections.singletonList(result) : Collections.emptyList();
+        for (Object element : entities) {
+            IdentifierAccessor accessor = entity.getIdentifierAccessor(element);
+            ids.add(accessor.getRequiredIdentifier());
+        }
+        return new CachedResult(null, ids);
+    }
+
+    /**
+     * Recreate a query result from the cache, loading entities by their IDs.
+     */
+    private Object materialize(CachedResult result) {
+        if (result.ids == null) {
+            return result.value;
+        }
+
+        List<?> entities = result.ids.isEmpty()
+            ? new ArrayList<>()
+            : operations.findAllById(result.ids, entity.getType());
+        if (queryMethod.isCollectionQuery()) {
+            return entities;
+        }
+        return entities.isEmpty() ? null : entities.get(0);
+    }
+
+    private static boolean isValueType(Class<?> type) {
+        return type.isPrimitive() || Number.class.isAssignableFrom(type) || Boolean.class.equals(type)
+            || String.class.equals(type);
+    }
+
+    /**
+     * A cached query result, either a value or the IDs of the resulting entities.
+     */
+    private static final class CachedResult implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object value;
+        private final List<Object> ids;
+
+        CachedResult(Object value, List<Object> ids) {
+            this.value = value;
+            this.ids = ids;
+        }
+    }
+
+}
@@ -36,6 +36,13 @@ public class OrientDBParameterAccessor extends ParametersParameterAccessor {
      * Handles special cases like LIKE patterns.
      */
     public Object prepareParameter(Object parameter, Part.Type type) {
+        return prepareParameterValue(parameter, type);
+    }
+
+    /**
+     * Prepares a parameter for a specific Part type without requiring an accessor instance.
+     */
+    static Object prepareParameterValue(Object parameter, Part.Type type) {
         if (parameter == null) {
             return null;
         }
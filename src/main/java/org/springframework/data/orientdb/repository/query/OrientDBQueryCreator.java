@@ -16,10 +16,13 @@
 package org.springframework.data.orientdb.repository.query;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
+import org.springframework.data.orientdb.core.mapping.OrientDBPersistentProperty;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
@@ -44,19 +47,53 @@ public class OrientDBQueryCreator {
     private final PartTree tree;
     private final OrientDBPersistentEntity<?> entity;
     private final String vertexClassName;
+    private final List<String> projectedProperties;
 
     public OrientDBQueryCreator(PartTree tree, OrientDBPersistentEntity<?> entity) {
+        this(tree, entity, Collections.emptyList());
+    }
+
+    /**
+     * Creates a query creator whose SELECT queries only fetch the given properties. The ID and version properties
+     * are selected as {@code @rid} and {@code @version} aliased to the property name.
+     *
+     * @param tree the parsed method name
+     * @param entity the queried entity
+     * @param projectedProperties the properties to select, all if empty
+     * @since 1.6.0
+     */
+    public OrientDBQueryCreator(PartTree tree, OrientDBPersistentEntity<?> entity, List<String> projectedProperties) {
         this.tree = tree;
         this.entity = entity;
         this.vertexClassName = entity.getVertexClassName();
+        this.projectedProperties = projectedProperties;
     }
 
     /**
      * Creates the main SELECT query.
      */
     public String createQuery(Object[] parameters) {
-        StringBuilder query = new StringBuilder("SELECT FROM ");
-        query.append(vertexClassName);
+        StringBuilder query = new StringBuilder(createQuery(tree.getSort()));
+
+        // Add LIMIT clause if present
+        if (tree.isLimiting()) {
+            query.append(" LIMIT ").append(tree.getMaxResults());
+        }
+
+        return query.toString();
+    }
+
+    /**
+     * Creates the SELECT query ordered by the given {@link Sort}, without any LIMIT clause.
+     *
+     * @since 1.6.0
+     */
+    public String createQuery(Sort sort) {
+        StringBuilder query = new StringBuilder("SELECT ");
+        if (!projectedProperties.isEmpty()) {
+            query.append(createProjection(sort)).append(" ");
+        }
+        query.append("FROM ").append(vertexClassName);
 
         // Add WHERE clause
         String whereClause = createWhereClause();
@@ -65,10 +102,10 @@ public class OrientDBQueryCreator {
         }
 
         // Add ORDER BY clause
-        if (tree.getSort().isSorted()) {
+        if (sort.isSorted()) {
             query.append(" ORDER BY ");
             boolean first = true;
-            for (var order : tree.getSort()) {
+            for (var order : sort) {
                 if (!first) query.append(", ");
                 query.append(order.getProperty());
                 query.append(" ").append(order.getDirection().name());
@@ -76,12 +113,33 @@ public class OrientDBQueryCreator {
             }
         }
 
-        // Add LIMIT clause if present
-        if (tree.isLimiting()) {
-            query.append(" LIMIT ").append(tree.getMaxResults());
+        return query.toString();
+    }
+
+    /**
+     * Creates the projection list of the SELECT query. Sort properties are selected as well so the result can
+     * be ordered by them.
+     */
+    private String createProjection(Sort sort) {
+        List<String> properties = new ArrayList<>(projectedProperties);
+        for (Sort.Order order : sort) {
+            if (!properties.contains(order.getProperty())) {
+                properties.add(order.getProperty());
+            }
         }
 
-        return query.toString();
+        List<String> columns = new ArrayList<>(properties.size());
+        for (String name : properties) {
+            OrientDBPersistentProperty property = entity.getPersistentProperty(name);
+            if (property != null && property.isIdProperty()) {
+                columns.add("@rid AS " + name);
+            } else if (property != null && property.isVersionProperty()) {
+                columns.add("@version AS " + name);
+            } else {
+                columns.add(name);
+            }
+        }
+        return String.join(", ", columns);
     }
 
     /**
@@ -99,6 +157,21 @@ public class OrientDBQueryCreator {
         return query.toString();
     }
 
+    /**
+     * Creates an existence query selecting the record ID of at most one matching vertex.
+     */
+    public String createExistsQuery() {
+        StringBuilder query = new StringBuilder("SELECT @rid FROM ");
+        query.append(vertexClassName);
+
+        String whereClause = createWhereClause();
+        if (!whereClause.isEmpty()) {
+            query.append(" WHERE ").append(whereClause);
+        }
+
+        return query.append(" LIMIT 1").toString();
+    }
+
     /**
      * Creates a DELETE query.
      */
@@ -115,9 +188,10 @@ public class OrientDBQueryCreator {
     }
 
     /**
-     * Creates the WHERE clause from the PartTree.
+     * Creates the WHERE condition from the PartTree, without the WHERE keyword.
+     * Returns an empty string if the tree has no criteria.
      */
-    private String createWhereClause() {
+    public String createWhereClause() {
         List<String> conditions = new ArrayList<>();
         
         for (PartTree.OrPart orPart : tree) {
@@ -17,7 +17,10 @@ package org.springframework.data.orientdb.repository.query;
 
 import java.lang.reflect.Method;
 
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.orientdb.core.OrientDBOperations;
+import org.springframework.data.orientdb.core.OrientDBQueryResultCache;
+import org.springframework.data.orientdb.observability.OrientDBMetrics;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -45,7 +48,48 @@ public class OrientDBQueryLookupStrategy {
             OrientDBOperations operations,
             QueryMethodEvaluationContextProvider evaluationContextProvider,
             Key key) {
+        return create(operations, evaluationContextProvider, key, null);
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link Key}, caching the results of {@link CachedQuery}
+     * methods in the given {@link OrientDBQueryResultCache}.
+     *
+     * @param queryResultCache the query result cache, may be {@literal null} to disable result caching
+     * @since 1.6.0
+     */
+    public static QueryLookupStrategy create(
+            OrientDBOperations operations,
+            QueryMethodEvaluationContextProvider evaluationContextProvider,
+            Key key,
+            OrientDBQueryResultCache queryResultCache) {
+        return create(operations, evaluationContextProvider, key, queryResultCache, null);
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link Key}, caching the results of {@link CachedQuery}
+     * methods in the given {@link OrientDBQueryResultCache} and timing query method executions with the given
+     * {@link OrientDBMetrics}.
+     *
+     * @param queryResultCache the query result cache, may be {@literal null} to disable result caching
+     * @param metrics the metrics, may be {@literal null} to disable timing
+     * @since 1.6.0
+     */
+    public static QueryLookupStrategy create(
+            OrientDBOperations operations,
+            QueryMethodEvaluationContextProvider evaluationContextProvider,
+            Key key,
+            OrientDBQueryResultCache queryResultCache,
+            OrientDBMetrics metrics) {
 
+        QueryLookupStrategy strategy = createStrategy(operations, key);
+        if (queryResultCache != null) {
+            strategy = new CachingQueryLookupStrategy(strategy, operations, queryResultCache);
+        }
+        return metrics != null ? new TimedQueryLookupStrategy(strategy, metrics) : strategy;
+    }
+
+    private static QueryLookupStrategy createStrategy(OrientDBOperations operations, Key key) {
         switch (key != null ? key : Key.CREATE_IF_NOT_FOUND) {
             case CREATE:
                 return new CreateQueryLookupStrategy(operations);
@@ -117,6 +161,73 @@ public class OrientDBQueryLookupStrategy {
         }
     }
 
+    /**
+     * Strategy decorating the queries of {@link CachedQuery} methods resolved by another strategy.
+     */
+    private static class CachingQueryLookupStrategy implements QueryLookupStrategy {
+
+        private final QueryLookupStrategy delegate;
+        private final OrientDBOperations operations;
+        private final OrientDBQueryResultCache queryResultCache;
+
+        public CachingQueryLookupStrategy(QueryLookupStrategy delegate, OrientDBOperations operations,
+                OrientDBQueryResultCache queryResultCache) {
+            this.delegate = delegate;
+            this.operations = operations;
+            this.queryResultCache = queryResultCache;
+        }
+
+        @Override
+        public RepositoryQuery resolveQuery(
+                Method method,
+                RepositoryMetadata metadata,
+                ProjectionFactory factory,
+                NamedQueries namedQueries) {
+
+            RepositoryQuery query = delegate.resolveQuery(method, metadata, factory, namedQueries);
+            if (!AnnotatedElementUtils.hasAnnotation(method, CachedQuery.class)) {
+                return query;
+            }
+
+            String queryString;
+            if (query instanceof PartTreeOrientDBQuery partTreeQuery) {
+                queryString = partTreeQuery.getQueryString();
+            } else if (query instanceof StringBasedOrientDBQuery stringBasedQuery) {
+                queryString = stringBasedQuery.getQueryString();
+            } else {
+                return query;
+            }
+
+            OrientDBQueryMethod queryMethod = new OrientDBQueryMethod(method, metadata, factory);
+            return new CachingOrientDBQuery(query, queryString, queryMethod, operations, queryResultCache);
+        }
+    }
+
+    /**
+     * Strategy timing the queries resolved by another strategy, including cache hits.
+     */
+    private static class TimedQueryLookupStrategy implements QueryLookupStrategy {
+
+        private final QueryLookupStrategy delegate;
+        private final OrientDBMetrics metrics;
+
+        public TimedQueryLookupStrategy(QueryLookupStrategy delegate, OrientDBMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public RepositoryQuery resolveQuery(
+                Method method,
+                RepositoryMetadata metadata,
+                ProjectionFactory factory,
+                NamedQueries namedQueries) {
+
+            RepositoryQuery query = delegate.resolveQuery(method, metadata, factory, namedQueries);
+            return new TimedOrientDBQuery(query, metadata.getRepositoryInterface(), metrics);
+        }
+    }
+
     /**
      * Strategy to try declared queries first, fall back to derived queries.
      */
@@ -16,11 +16,15 @@
 package org.springframework.data.orientdb.repository.query;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.ReactiveWrappers;
 import org.springframework.util.StringUtils;
 
 /**
@@ -33,10 +37,12 @@ import org.springframework.util.StringUtils;
 public class OrientDBQueryMethod extends QueryMethod {
 
     private final Method method;
+    private final ProjectionFactory factory;
 
     public OrientDBQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
         super(method, metadata, factory);
         this.method = method;
+        this.factory = factory;
     }
 
     /**
@@ -74,5 +80,35 @@ public class OrientDBQueryMethod extends QueryMethod {
         return queryAnnotation != null && queryAnnotation.count();
     }
 
+    /**
+     * Returns whether the method returns a reactive type emitting any number of elements, e.g. a
+     * {@link reactor.core.publisher.Flux}.
+     *
+     * @since 1.6.0
+     */
+    public boolean isReactiveMultiValueQuery() {
+        return ReactiveWrappers.isMultiValueType(method.getReturnType());
+    }
+
+    /**
+     * Returns the properties a derived query needs to select for the returned projection. Only closed interface
+     * projections and DTOs declare all properties they read, so open projections, whose {@code @Value} expressions
+     * may read any property, and non-projecting methods return an empty list and select full records.
+     *
+     * @since 1.6.0
+     */
+    public List<String> getProjectedProperties() {
+        ReturnedType returnedType = getResultProcessor().getReturnedType();
+        if (!returnedType.isProjecting()) {
+            return Collections.emptyList();
+        }
+        
+        Class<?> type = returnedType.getReturnedType();
+        if (type.isInterface() && !factory.getProjectionInformation(type).isClosed()) {
+            return Collections.emptyList();
+        }
+        return returnedType.getInputProperties();
+    }
+
 }
 
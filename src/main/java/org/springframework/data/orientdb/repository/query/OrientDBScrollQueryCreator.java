@@ -0,0 +1,340 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
+import org.springframework.data.orientdb.core.mapping.OrientDBPersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates OrientDB SQL queries and {@link Window} results for scrolling through entities.
+ *
+ * <p>Keyset scrolling seeks past the last returned row instead of skipping rows, e.g.
+ * {@code SELECT FROM User WHERE (@rid > ?) ORDER BY @rid ASC LIMIT 11}, so every window
+ * costs roughly the same regardless of its depth. The requested sort is always
+ * extended with {@code @rid} to make the ordering unique. Sort properties used for keyset
+ * scrolling should not contain {@literal null} values.</p>
+ *
+ * <p>Offset scrolling falls back to {@code SKIP}/{@code LIMIT}. An offset position denotes the
+ * number of rows to skip, so the position of the n-th (zero-based) element of a window
+ * starting at offset {@code s} is {@code s + n + 1}.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class OrientDBScrollQueryCreator {
+
+    private static final String RID = "@rid";
+
+    private final OrientDBPersistentEntity<?> entity;
+
+    public OrientDBScrollQueryCreator(OrientDBPersistentEntity<?> entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+        this.entity = entity;
+    }
+
+    /**
+     * Creates the query selecting the window that follows the given scroll position.
+     *
+     * @param condition the base condition without the {@code WHERE} keyword, may be empty
+     * @param parameters the positional parameters of the base condition
+     * @param sort the requested sort
+     * @param position the scroll position
+     * @param limit the maximum window size, or zero for an unlimited window
+     * @return the scroll query
+     */
+    public ScrollQuery createQuery(String condition, Object[] parameters, Sort sort, 
+            ScrollPosition position, int limit) {
+        Assert.notNull(parameters, "Parameters must not be null!");
+        Assert.notNull(sort, "Sort must not be null!");
+        Assert.notNull(position, "ScrollPosition must not be null!");
+
+        List<Object> values = new ArrayList<>(Arrays.asList(parameters));
+        List<String> conditions = new ArrayList<>(2);
+        if (StringUtils.hasText(condition)) {
+            conditions.add("(" + condition + ")");
+        }
+
+        StringBuilder query = new StringBuilder("SELECT FROM ");
+        query.append(entity.getVertexClassName());
+
+        if (position instanceof OffsetScrollPosition) {
+            OffsetScrollPosition offsetPosition = (OffsetScrollPosition) position;
+            long offset = offsetPosition.isInitial() ? 0 : offsetPosition.getOffset();
+
+            appendWhere(query, conditions);
+            if (sort.isSorted()) {
+                query.append(" ORDER BY ");
+                boolean first = true;
+                for (Sort.Order order : sort) {
+                    if (!first) {
+                        query.append(", ");
+                    }
+                    query.append(order.getProperty()).append(" ").append(order.getDirection().name());
+                    first = false;
+                }
+            }
+            if (offset > 0) {
+                query.append(" SKIP ").append(offset);
+            }
+            appendLimit(query, limit);
+
+            return new ScrollQuery(query.toString(), values.toArray(), null, false, offset, limit);
+        }
+
+        KeysetScrollPosition keysetPosition = (KeysetScrollPosition) position;
+        List<KeyOrder> keyOrders = createKeyOrders(sort);
+        boolean backward = keysetPosition.scrollsBackward();
+
+        if (!keysetPosition.isInitial()) {
+            conditions.add(createKeysetCondition(keyOrders, keysetPosition.getKeys(), backward, values));
+        }
+        appendWhere(query, conditions);
+
+        query.append(" ORDER BY ");
+        for (int i = 0; i < keyOrders.size(); i++) {
+            KeyOrder keyOrder = keyOrders.get(i);
+            if (i > 0) {
+                query.append(", ");
+            }
+            query.append(keyOrder.field).append(" ").append(keyOrder.direction(backward).name());
+        }
+        appendLimit(query, limit);
+
+        return new ScrollQuery(query.toString(), values.toArray(), keyOrders, backward, 0, limit);
+    }
+
+    /**
+     * Creates the {@link Window} for the results of the given scroll query.
+     *
+     * @param results the results of executing the scroll query
+     * @param scrollQuery the executed scroll query
+     * @param <T> the entity type
+     * @return the window
+     */
+    public <T> Window<T> createWindow(List<T> results, ScrollQuery scrollQuery) {
+        int limit = scrollQuery.limit;
+        boolean hasNext = limit > 0 && results.size() > limit;
+        List<T> content = new ArrayList<>(hasNext ? results.subList(0, limit) : results);
+
+        IntFunction<ScrollPosition> positionFunction;
+        if (scrollQuery.keyOrders == null) {
+            long offset = scrollQuery.offset;
+            positionFunction = index -> ScrollPosition.offset(offset + index + 1);
+        } else {
+            if (scrollQuery.backward) {
+                Collections.reverse(content);
+            }
+            positionFunction = index -> {
+                Map<String, Object> keys = extractKeys(content.get(index), scrollQuery.keyOrders);
+                return scrollQuery.backward ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+            };
+        }
+
+        return Window.from(content, positionFunction, hasNext);
+    }
+
+    /**
+     * Determine the keyset: the requested sort, made unique by appending {@code @rid}.
+     */
+    private List<KeyOrder> createKeyOrders(Sort sort) {
+        List<KeyOrder> keyOrders = new ArrayList<>();
+        boolean hasRid = false;
+
+        for (Sort.Order order : sort) {
+            OrientDBPersistentProperty property = entity.getPersistentProperty(order.getProperty());
+            if (RID.equals(order.getProperty()) || (property != null && property.isIdProperty())) {
+                keyOrders.add(new KeyOrder(order.getProperty(), RID, null, order.getDirection()));
+                hasRid = true;
+                break;
+            }
+            if (property == null) {
+                throw new IllegalArgumentException(String.format(
+                    "Cannot scroll by '%s': no such property on %s", order.getProperty(), entity.getType().getName()));
+            }
+            keyOrders.add(new KeyOrder(order.getProperty(), property.getName(), property, order.getDirection()));
+        }
+
+        if (!hasRid) {
+            OrientDBPersistentProperty idProperty = entity.getIdProperty();
+            keyOrders.add(new KeyOrder(idProperty != null ? idProperty.getName() : RID, RID, null, Sort.Direction.ASC));
+        }
+        return keyOrders;
+    }
+
+    /**
+     * Create the seek condition {@code (k1 > ?) OR (k1 = ? AND k2 > ?) OR ...}.
+     */
+    private String createKeysetCondition(List<KeyOrder> keyOrders, Map<String, ?> keys, 
+            boolean backward, List<Object> values) {
+        List<String> disjunctions = new ArrayList<>(keyOrders.size());
+
+        for (int i = 0; i < keyOrders.size(); i++) {
+            List<String> conjunctions = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                KeyOrder previous = keyOrders.get(j);
+                Object value = getKey(keys, previous);
+                if (value == null) {
+                    conjunctions.add(previous.field + " IS NULL");
+                } else {
+                    conjunctions.add(previous.field + " = ?");
+                    values.add(value);
+                }
+            }
+
+            KeyOrder current = keyOrders.get(i);
+            Object value = getKey(keys, current);
+            if (value == null) {
+                conjunctions.add(current.field + " IS NOT NULL");
+            } else {
+                conjunctions.add(current.field + (current.direction(backward).isAscending() ? " > ?" : " < ?"));
+                values.add(value);
+            }
+
+            disjunctions.add("(" + String.join(" AND ", conjunctions) + ")");
+        }
+
+        return "(" + String.join(" OR ", disjunctions) + ")";
+    }
+
+    private Object getKey(Map<String, ?> keys, KeyOrder keyOrder) {
+        if (!keys.containsKey(keyOrder.key)) {
+            throw new IllegalStateException(String.format(
+                "Scroll position does not contain a value for sort key '%s'", keyOrder.key));
+        }
+
+        Object value = keys.get(keyOrder.key);
+        if (value == null) {
+            return null;
+        }
+        if (keyOrder.property == null) {
+            return value instanceof ORID ? value : new ORecordId(value.toString());
+        }
+        if (value instanceof LocalDateTime) {
+            return Date.from(((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant());
+        }
+        if (value instanceof LocalDate) {
+            return Date.from(((LocalDate) value).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        }
+        return value;
+    }
+
+    private Map<String, Object> extractKeys(Object result, List<KeyOrder> keyOrders) {
+        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(result);
+        Map<String, Object> keys = new LinkedHashMap<>();
+
+        for (KeyOrder keyOrder : keyOrders) {
+            if (keyOrder.property == null) {
+                Object id = entity.getIdentifierAccessor(result).getIdentifier();
+                keys.put(keyOrder.key, id != null ? id.toString() : null);
+            } else {
+                keys.put(keyOrder.key, accessor.getProperty(keyOrder.property));
+            }
+        }
+        return keys;
+    }
+
+    private static void appendWhere(StringBuilder query, List<String> conditions) {
+        if (!conditions.isEmpty()) {
+            query.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+
+    private static void appendLimit(StringBuilder query, int limit) {
+        // Fetch one extra row to find out whether there is a next window
+        if (limit > 0) {
+            query.append(" LIMIT ").append(limit + 1);
+        }
+    }
+
+    /**
+     * A sort key of a keyset scroll query.
+     */
+    private static class KeyOrder {
+
+        private final String key;
+        private final String field;
+        private final OrientDBPersistentProperty property;
+        private final Sort.Direction direction;
+
+        KeyOrder(String key, String field, OrientDBPersistentProperty property, Sort.Direction direction) {
+            this.key = key;
+            this.field = field;
+            this.property = property;
+            this.direction = direction;
+        }
+
+        Sort.Direction direction(boolean backward) {
+            if (!backward) {
+                return direction;
+            }
+            return direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        }
+    }
+
+    /**
+     * A scroll query ready to be executed.
+     */
+    public static class ScrollQuery {
+
+        private final String query;
+        private final Object[] parameters;
+        private final List<KeyOrder> keyOrders;
+        private final boolean backward;
+        private final long offset;
+        private final int limit;
+
+        ScrollQuery(String query, Object[] parameters, List<KeyOrder> keyOrders, 
+                boolean backward, long offset, int limit) {
+            this.query = query;
+            this.parameters = parameters;
+            this.keyOrders = keyOrders;
+            this.backward = backward;
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public Object[] getParameters() {
+            return parameters;
+        }
+    }
+
+}
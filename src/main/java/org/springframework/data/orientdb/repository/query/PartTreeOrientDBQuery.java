@@ -15,11 +15,22 @@
  */
 package org.springframework.data.orientdb.repository.query;
 
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.orientdb.core.OrientDBOperations;
 import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
+import org.springframework.data.orientdb.repository.query.OrientDBScrollQueryCreator.ScrollQuery;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -39,6 +50,9 @@ public class PartTreeOrientDBQuery implements RepositoryQuery {
     private final OrientDBOperations operations;
     private final PartTree tree;
     private final OrientDBQueryCreator queryCreator;
+    private final OrientDBScrollQueryCreator scrollQueryCreator;
+    private final PreparedOrientDBQuery preparedQuery;
+    private final boolean projecting;
 
     public PartTreeOrientDBQuery(OrientDBQueryMethod queryMethod, OrientDBOperations operations) {
         Assert.notNull(queryMethod, "QueryMethod must not be null!");
@@ -51,54 +65,177 @@ public class PartTreeOrientDBQuery implements RepositoryQuery {
         OrientDBPersistentEntity<?> entity = (OrientDBPersistentEntity<?>) operations.getMappingContext()
             .getRequiredPersistentEntity(queryMethod.getEntityInformation().getJavaType());
         
-        this.queryCreator = new OrientDBQueryCreator(tree, entity);
+        // Only select the properties a closed projection needs
+        this.projecting = queryMethod.getResultProcessor().getReturnedType().isProjecting();
+        this.queryCreator = new OrientDBQueryCreator(tree, entity, queryMethod.getProjectedProperties());
+        this.scrollQueryCreator = new OrientDBScrollQueryCreator(entity);
+        this.preparedQuery = PreparedOrientDBQuery.prepare(tree, queryCreator, queryMethod.getParameters());
     }
 
     @Override
     public Object execute(Object[] parameters) {
-        // Build the query
-        String query = queryCreator.createQuery(parameters);
         Class<?> returnType = queryMethod.getReturnedObjectType();
 
         // Handle count queries
         if (tree.isCountProjection()) {
-            String countQuery = queryCreator.createCountQuery();
-            return operations.execute(session -> {
-                try (var resultSet = session.query(countQuery, parameters)) {
-                    if (resultSet.hasNext()) {
-                        return resultSet.next().<Long>getProperty("count");
-                    }
-                }
-                return 0L;
-            });
+            return executeCount(preparedQuery.bind(parameters));
         }
 
         // Handle exists queries
         if (tree.isExistsProjection()) {
-            String countQuery = queryCreator.createCountQuery();
-            Long count = operations.execute(session -> {
-                try (var resultSet = session.query(countQuery, parameters)) {
-                    if (resultSet.hasNext()) {
-                        return resultSet.next().<Long>getProperty("count");
-                    }
-                }
-                return 0L;
-            });
-            return count > 0;
+            return executeExists(preparedQuery.bind(parameters));
         }
 
         // Handle delete queries
         if (tree.isDelete()) {
-            return operations.command(queryCreator.createDeleteQuery(), parameters);
+            return operations.command(preparedQuery.getDeleteQuery(), preparedQuery.bind(parameters));
+        }
+
+        // Handle scroll queries
+        if (queryMethod.isScrollQuery()) {
+            return executeScrollQuery(parameters, returnType);
+        }
+
+        // Handle slice and page queries
+        if (queryMethod.isSliceQuery() || queryMethod.isPageQuery()) {
+            return executePagedQuery(parameters, returnType);
+        }
+
+        String query = preparedQuery.getQuery();
+        Object[] values = preparedQuery.bind(parameters);
+
+        // Handle projections
+        if (projecting) {
+            if (queryMethod.isStreamQuery()) {
+                return operations.streamForProjection(query, returnType, values);
+            }
+            List<?> projections = operations.queryForProjection(query, returnType, values);
+            if (queryMethod.isCollectionQuery()) {
+                return projections;
+            }
+            return projections.isEmpty() ? null : projections.get(0);
+        }
+
+        // Handle stream return types
+        if (queryMethod.isStreamQuery()) {
+            return operations.stream(query, returnType, values);
         }
 
         // Handle collection return types
         if (queryMethod.isCollectionQuery()) {
-            return operations.query(query, returnType, parameters);
+            return operations.query(query, returnType, values);
         }
 
         // Handle single result
-        return operations.querySingle(query, returnType, parameters).orElse(null);
+        return operations.querySingle(query, returnType, values).orElse(null);
+    }
+
+    /**
+     * Execute the existence query for the given parameter values, stopping at the first match.
+     */
+    private boolean executeExists(Object[] parameters) {
+        return operations.queryExists(preparedQuery.getExistsQuery(), parameters);
+    }
+
+    /**
+     * Execute the count query for the given parameter values.
+     */
+    private long executeCount(Object[] parameters) {
+        return operations.queryForLong(preparedQuery.getCountQuery(), parameters);
+    }
+
+    /**
+     * Execute a query returning a {@link Slice} or a {@link org.springframework.data.domain.Page}.
+     * Slices fetch a single extra row to detect a following slice instead of counting, pages only
+     * run the count query when the content alone can't determine the total.
+     */
+    private Object executePagedQuery(Object[] parameters, Class<?> returnType) {
+        OrientDBParameterAccessor accessor = new OrientDBParameterAccessor(queryMethod, parameters);
+        Pageable pageable = accessor.getPageable();
+        Object[] values = preparedQuery.bind(parameters);
+        Sort sort = accessor.getSort();
+        String query = sort.isSorted()
+            ? queryCreator.createQuery(tree.getSort().and(sort))
+            : preparedQuery.getBaseQuery();
+        
+        if (pageable.isUnpaged()) {
+            List<?> content = queryList(query, returnType, values);
+            return queryMethod.isSliceQuery()
+                ? new SliceImpl<>(content, pageable, false)
+                : new PageImpl<>(content, pageable, content.size());
+        }
+        
+        if (queryMethod.isSliceQuery()) {
+            int pageSize = pageable.getPageSize();
+            List<?> content = queryList(query + " SKIP " + pageable.getOffset() + " LIMIT " + (pageSize + 1),
+                returnType, values);
+            boolean hasNext = content.size() > pageSize;
+            return new SliceImpl<>(hasNext ? content.subList(0, pageSize) : content, pageable, hasNext);
+        }
+        
+        List<?> content = queryList(query + " SKIP " + pageable.getOffset() + " LIMIT " + pageable.getPageSize(),
+            returnType, values);
+        return PageableExecutionUtils.getPage(content, pageable, () -> executeCount(values));
+    }
+
+    /**
+     * Execute a list query, mapping rows to the projection type if the method returns projections.
+     */
+    private List<?> queryList(String query, Class<?> returnType, Object[] values) {
+        return projecting
+            ? operations.queryForProjection(query, returnType, values)
+            : operations.query(query, returnType, values);
+    }
+
+    /**
+     * Execute a query returning a {@link org.springframework.data.domain.Window},
+     * using keyset pagination unless an offset scroll position is given. Projections are
+     * mapped from the entities after the window read their keyset.
+     */
+    private Object executeScrollQuery(Object[] parameters, Class<?> returnType) {
+        OrientDBParameterAccessor accessor = new OrientDBParameterAccessor(queryMethod, parameters);
+        
+        ScrollPosition position = accessor.getScrollPosition();
+        if (position == null) {
+            position = ScrollPosition.keyset();
+        }
+        
+        int limit = 0;
+        if (tree.isLimiting()) {
+            limit = tree.getMaxResults();
+        } else if (accessor.getLimit().isLimited()) {
+            limit = accessor.getLimit().max();
+        }
+        
+        ScrollQuery scrollQuery = scrollQueryCreator.createQuery(preparedQuery.getCondition(), 
+            preparedQuery.bind(parameters), tree.getSort().and(accessor.getSort()), position, limit);
+        if (!projecting) {
+            List<?> results = operations.query(scrollQuery.getQuery(), returnType, scrollQuery.getParameters());
+            return scrollQueryCreator.createWindow(results, scrollQuery);
+        }
+        
+        List<?> entities = operations.query(scrollQuery.getQuery(), 
+            queryMethod.getEntityInformation().getJavaType(), scrollQuery.getParameters());
+        ResultProcessor resultProcessor = queryMethod.getResultProcessor();
+        return scrollQueryCreator.createWindow(entities, scrollQuery)
+            .map(entity -> resultProcessor.processResult(entity));
+    }
+
+    /**
+     * Returns the SQL text executed by this query, the count or exists query for count and exists projections.
+     */
+    String getQueryString() {
+        if (tree.isCountProjection()) {
+            return preparedQuery.getCountQuery();
+        }
+        return tree.isExistsProjection() ? preparedQuery.getExistsQuery() : preparedQuery.getQuery();
+    }
+
+    /**
+     * Returns whether this query deletes the matching vertices.
+     */
+    boolean isDeleteQuery() {
+        return tree.isDelete();
     }
 
     @Override
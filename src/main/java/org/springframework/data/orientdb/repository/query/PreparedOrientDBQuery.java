@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Immutable descriptor holding the SQL of a derived query, built once when the query method is resolved.
+ *
+ * <p>The SQL text of a derived query only depends on the method name, never on the argument values, so the
+ * select, count, exists and delete statements are rendered up front. The descriptor also records how each method argument
+ * is bound, so invocations without special parameters or {@code LIKE} patterns pass the arguments through as-is.</p>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+final class PreparedOrientDBQuery {
+
+    private final String condition;
+    private final String baseQuery;
+    private final String query;
+    private final String countQuery;
+    private final String existsQuery;
+    private final String deleteQuery;
+    private final int[] parameterIndexes;
+    private final Part.Type[] parameterTypes;
+    private final boolean rebindRequired;
+
+    private PreparedOrientDBQuery(String condition, String baseQuery, String query, String countQuery,
+            String existsQuery, String deleteQuery, int[] parameterIndexes, Part.Type[] parameterTypes,
+            boolean rebindRequired) {
+        this.condition = condition;
+        this.baseQuery = baseQuery;
+        this.query = query;
+        this.countQuery = countQuery;
+        this.existsQuery = existsQuery;
+        this.deleteQuery = deleteQuery;
+        this.parameterIndexes = parameterIndexes;
+        this.parameterTypes = parameterTypes;
+        this.rebindRequired = rebindRequired;
+    }
+
+    /**
+     * Prepares the SQL and parameter bindings for the given {@link PartTree}.
+     *
+     * @param tree the parsed method name
+     * @param queryCreator the creator rendering the SQL
+     * @param parameters the parameters of the query method
+     * @return the prepared query
+     */
+    static PreparedOrientDBQuery prepare(PartTree tree, OrientDBQueryCreator queryCreator, Parameters<?, ?> parameters) {
+        List<Part.Type> partTypes = new ArrayList<>();
+        for (Part part : tree.getParts()) {
+            for (int i = 0; i < part.getNumberOfArguments(); i++) {
+                partTypes.add(part.getType());
+            }
+        }
+
+        Parameters<?, ?> bindable = parameters.getBindableParameters();
+        int[] indexes = new int[bindable.getNumberOfParameters()];
+        Part.Type[] types = new Part.Type[indexes.length];
+        boolean rebindRequired = parameters.hasSpecialParameter();
+
+        int position = 0;
+        for (Parameter parameter : bindable) {
+            Part.Type type = position < partTypes.size() ? partTypes.get(position) : Part.Type.SIMPLE_PROPERTY;
+            indexes[position] = parameter.getIndex();
+            types[position] = type;
+            rebindRequired |= isTransforming(type);
+            position++;
+        }
+
+        return new PreparedOrientDBQuery(
+            queryCreator.createWhereClause(),
+            queryCreator.createQuery(tree.getSort()),
+            queryCreator.createQuery(new Object[0]),
+            queryCreator.createCountQuery(),
+            queryCreator.createExistsQuery(),
+            queryCreator.createDeleteQuery(),
+            indexes, types, rebindRequired);
+    }
+
+    /**
+     * Returns the WHERE condition without the WHERE keyword, empty if the query has no criteria.
+     */
+    String getCondition() {
+        return condition;
+    }
+
+    /**
+     * Returns the SELECT query including the static sort and limit of the method name.
+     */
+    String getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the SELECT query including the static sort of the method name but no LIMIT clause.
+     */
+    String getBaseQuery() {
+        return baseQuery;
+    }
+
+    /**
+     * Returns the COUNT query.
+     */
+    String getCountQuery() {
+        return countQuery;
+    }
+
+    /**
+     * Returns the existence query selecting at most one record ID.
+     */
+    String getExistsQuery() {
+        return existsQuery;
+    }
+
+    /**
+     * Returns the DELETE query.
+     */
+    String getDeleteQuery() {
+        return deleteQuery;
+    }
+
+    /**
+     * Returns the values to bind for the given method arguments. Special parameters like {@link Sort} or
+     * {@link org.springframework.data.domain.Pageable} are left out and {@code LIKE} patterns are applied. The
+     * arguments are returned unchanged when neither applies.
+     *
+     * @param arguments the method arguments
+     * @return the values to bind to the positional parameters
+     */
+    Object[] bind(Object[] arguments) {
+        if (!rebindRequired) {
+            return arguments;
+        }
+
+        Object[] values = new Object[parameterIndexes.length];
+        for (int i = 0; i < parameterIndexes.length; i++) {
+            values[i] = OrientDBParameterAccessor.prepareParameterValue(arguments[parameterIndexes[i]], parameterTypes[i]);
+        }
+        return values;
+    }
+
+    private static boolean isTransforming(Part.Type type) {
+        return type == Part.Type.STARTING_WITH || type == Part.Type.ENDING_WITH
+            || type == Part.Type.CONTAINING || type == Part.Type.NOT_CONTAINING;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import java.lang.reflect.Method;
+
+import org.springframework.data.orientdb.core.ReactiveOrientDBOperations;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Query lookup strategy for reactive OrientDB repositories, resolving declared and derived queries like
+ * {@link OrientDBQueryLookupStrategy} does for imperative ones.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactiveOrientDBQueryLookupStrategy implements QueryLookupStrategy {
+
+    private final ReactiveOrientDBOperations operations;
+    private final Key key;
+
+    private ReactiveOrientDBQueryLookupStrategy(ReactiveOrientDBOperations operations, Key key) {
+        this.operations = operations;
+        this.key = key;
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link Key}.
+     */
+    public static QueryLookupStrategy create(ReactiveOrientDBOperations operations, Key key) {
+        Assert.notNull(operations, "ReactiveOrientDBOperations must not be null!");
+        return new ReactiveOrientDBQueryLookupStrategy(operations, key != null ? key : Key.CREATE_IF_NOT_FOUND);
+    }
+
+    @Override
+    public RepositoryQuery resolveQuery(
+            Method method,
+            RepositoryMetadata metadata,
+            ProjectionFactory factory,
+            NamedQueries namedQueries) {
+
+        OrientDBQueryMethod queryMethod = new OrientDBQueryMethod(method, metadata, factory);
+
+        if (key != Key.CREATE) {
+            // Try @Query annotation first
+            if (queryMethod.hasAnnotatedQuery()) {
+                return new ReactiveStringBasedOrientDBQuery(queryMethod, operations);
+            }
+
+            // Try named query
+            String namedQueryName = queryMethod.getNamedQueryName();
+            if (namedQueries.hasQuery(namedQueryName)) {
+                return new ReactiveStringBasedOrientDBQuery(namedQueries.getQuery(namedQueryName), queryMethod,
+                    operations);
+            }
+
+            if (key == Key.USE_DECLARED_QUERY) {
+                throw new IllegalStateException(
+                    String.format("Did not find query for method %s", method.getName()));
+            }
+        }
+
+        return new ReactivePartTreeOrientDBQuery(queryMethod, operations);
+    }
+
+}
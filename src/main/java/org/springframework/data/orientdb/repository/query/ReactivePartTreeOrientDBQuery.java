@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb.core.ReactiveOrientDBOperations;
+import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive {@link org.springframework.data.repository.query.RepositoryQuery} deriving queries from method names with
+ * the same {@link OrientDBQueryCreator} as {@link PartTreeOrientDBQuery}. Supports {@link reactor.core.publisher.Flux}
+ * and {@link Mono} results, count, exists and delete queries and dynamic {@link Sort} parameters.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactivePartTreeOrientDBQuery extends AbstractReactiveOrientDBQuery {
+
+    private final OrientDBQueryMethod queryMethod;
+    private final PartTree tree;
+    private final OrientDBQueryCreator queryCreator;
+    private final PreparedOrientDBQuery preparedQuery;
+    private final boolean projecting;
+
+    public ReactivePartTreeOrientDBQuery(OrientDBQueryMethod queryMethod, ReactiveOrientDBOperations operations) {
+        super(queryMethod, operations);
+
+        this.queryMethod = queryMethod;
+        this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+        
+        OrientDBPersistentEntity<?> entity = (OrientDBPersistentEntity<?>) operations.getMappingContext()
+            .getRequiredPersistentEntity(queryMethod.getEntityInformation().getJavaType());
+        
+        // Only select the properties a closed projection needs
+        this.projecting = queryMethod.getResultProcessor().getReturnedType().isProjecting();
+        this.queryCreator = new OrientDBQueryCreator(tree, entity, queryMethod.getProjectedProperties());
+        this.preparedQuery = PreparedOrientDBQuery.prepare(tree, queryCreator, queryMethod.getParameters());
+    }
+
+    @Override
+    public Object execute(Object[] parameters) {
+        Object[] values = preparedQuery.bind(parameters);
+
+        // Handle count queries
+        if (tree.isCountProjection()) {
+            return count(preparedQuery.getCountQuery(), values);
+        }
+
+        // Handle exists queries
+        if (tree.isExistsProjection()) {
+            return exists(preparedQuery.getExistsQuery(), values);
+        }
+
+        // Handle delete queries, emitting the number of deleted vertices unless the method returns Mono<Void>
+        if (tree.isDelete()) {
+            Mono<Integer> deleted = getOperations().command(preparedQuery.getDeleteQuery(), values);
+            Class<?> returnType = queryMethod.getReturnedObjectType();
+            if (returnType == Void.class || returnType == void.class) {
+                return deleted.then();
+            }
+            return returnType == Long.class ? deleted.map(Integer::longValue) : deleted;
+        }
+
+        return select(createQuery(parameters), values, projecting);
+    }
+
+    /**
+     * Returns the SELECT query, ordered by the dynamic {@link Sort} parameter if the method has one.
+     */
+    private String createQuery(Object[] parameters) {
+        Sort sort = new OrientDBParameterAccessor(queryMethod, parameters).getSort();
+        if (sort.isUnsorted()) {
+            return preparedQuery.getQuery();
+        }
+        
+        String query = queryCreator.createQuery(tree.getSort().and(sort));
+        return tree.isLimiting() ? query + " LIMIT " + tree.getMaxResults() : query;
+    }
+
+}
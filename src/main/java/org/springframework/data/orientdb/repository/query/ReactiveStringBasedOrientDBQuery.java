@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import org.springframework.data.orientdb.core.ReactiveOrientDBOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive {@link org.springframework.data.repository.query.RepositoryQuery} running the SQL declared through
+ * {@link Query} or a named query, the reactive counterpart of {@link StringBasedOrientDBQuery}.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactiveStringBasedOrientDBQuery extends AbstractReactiveOrientDBQuery {
+
+    private final OrientDBQueryMethod queryMethod;
+    private final String query;
+
+    public ReactiveStringBasedOrientDBQuery(OrientDBQueryMethod queryMethod, ReactiveOrientDBOperations operations) {
+        this(queryMethod.getAnnotatedQuery(), queryMethod, operations);
+    }
+
+    public ReactiveStringBasedOrientDBQuery(String query, OrientDBQueryMethod queryMethod,
+            ReactiveOrientDBOperations operations) {
+        super(queryMethod, operations);
+        Assert.hasText(query, "Query must not be empty!");
+
+        this.query = query;
+        this.queryMethod = queryMethod;
+    }
+
+    @Override
+    public Object execute(Object[] parameters) {
+        // Handle count queries
+        if (queryMethod.isCountQuery()) {
+            return count(query, parameters);
+        }
+
+        return select(query, parameters, queryMethod.getResultProcessor().getReturnedType().isProjecting());
+    }
+
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.orientdb.repository.query;
 
+import java.util.List;
+
 import org.springframework.data.orientdb.core.OrientDBOperations;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -53,14 +55,24 @@ public class StringBasedOrientDBQuery implements RepositoryQuery {
 
         // Handle count queries
         if (queryMethod.isCountQuery()) {
-            return operations.execute(session -> {
-                try (var resultSet = session.query(query, parameters)) {
-                    if (resultSet.hasNext()) {
-                        return resultSet.next().<Long>getProperty("count");
-                    }
-                }
-                return 0L;
-            });
+            return operations.queryForLong(query, parameters);
+        }
+
+        // Handle projections, mapped from the selected result rows
+        if (queryMethod.getResultProcessor().getReturnedType().isProjecting()) {
+            if (queryMethod.isStreamQuery()) {
+                return operations.streamForProjection(query, returnType, parameters);
+            }
+            List<?> projections = operations.queryForProjection(query, returnType, parameters);
+            if (queryMethod.isCollectionQuery()) {
+                return projections;
+            }
+            return projections.isEmpty() ? null : projections.get(0);
+        }
+
+        // Handle stream return types
+        if (queryMethod.isStreamQuery()) {
+            return operations.stream(query, returnType, parameters);
         }
 
         // Handle collection return types
@@ -72,6 +84,13 @@ public class StringBasedOrientDBQuery implements RepositoryQuery {
         return operations.querySingle(query, returnType, parameters).orElse(null);
     }
 
+    /**
+     * Returns the SQL text executed by this query.
+     */
+    String getQueryString() {
+        return query;
+    }
+
     @Override
     public QueryMethod getQueryMethod() {
         return queryMethod;
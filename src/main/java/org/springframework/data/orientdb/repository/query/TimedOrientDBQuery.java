@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.query;
+
+import org.springframework.data.orientdb.observability.OrientDBMetrics;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} decorator timing query method executions with {@link OrientDBMetrics}, tagged by entity
+ * class and {@code Repository.method}. Stream queries are timed until the stream is returned.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+class TimedOrientDBQuery implements RepositoryQuery {
+
+    private final RepositoryQuery delegate;
+    private final OrientDBMetrics metrics;
+    private final Class<?> entityType;
+    private final String method;
+
+    TimedOrientDBQuery(RepositoryQuery delegate, Class<?> repositoryInterface, OrientDBMetrics metrics) {
+        Assert.notNull(delegate, "Delegate must not be null!");
+        Assert.notNull(metrics, "OrientDBMetrics must not be null!");
+
+        QueryMethod queryMethod = delegate.getQueryMethod();
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.entityType = queryMethod.getEntityInformation().getJavaType();
+        this.method = repositoryInterface.getSimpleName() + "." + queryMethod.getName();
+    }
+
+    @Override
+    public Object execute(Object[] parameters) {
+        return metrics.record(OrientDBMetrics.Operation.QUERY, entityType, method, () -> delegate.execute(parameters));
+    }
+
+    @Override
+    public QueryMethod getQueryMethod() {
+        return delegate.getQueryMethod();
+    }
+}
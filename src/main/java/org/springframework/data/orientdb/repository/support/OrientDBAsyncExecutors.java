@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.support;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Factory for the executors running {@link SimpleAsyncOrientDBRepository} operations. OrientDB calls block on I/O,
+ * so they are kept off {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+ *
+ * <p>On Java 21 and later a virtual thread is started per task, otherwise a bounded pool of platform threads is used.
+ * Either way at most {@code maxConcurrency} tasks run at once, which should match the maximum size of the
+ * {@link com.orientechnologies.orient.core.db.ODatabasePool}. Submitting beyond that limit applies backpressure by
+ * blocking the submitting thread: the virtual thread executor blocks until a task completes, the platform pool once
+ * {@link #QUEUE_CAPACITY_FACTOR} times the limit are queued.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public final class OrientDBAsyncExecutors {
+
+    /**
+     * Thread name prefix of the executors created.
+     */
+    public static final String THREAD_NAME_PREFIX = "orientdb-async-";
+
+    /**
+     * Name of the executor bean picked up by async repositories without an explicitly configured executor.
+     */
+    public static final String BEAN_NAME = "orientDBAsyncExecutor";
+
+    /**
+     * Queue capacity of the platform thread pool, relative to its maximum concurrency.
+     */
+    public static final int QUEUE_CAPACITY_FACTOR = 10;
+
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    private OrientDBAsyncExecutors() {
+    }
+
+    /**
+     * Returns the executor shared by async repositories when neither an executor is configured nor a
+     * {@link #BEAN_NAME} bean exists, limited to the {@link OGlobalConfiguration#DB_POOL_MAX} default of OrientDB
+     * database pools.
+     *
+     * @return the shared default executor
+     */
+    public static AsyncTaskExecutor getDefault() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Creates a new executor running at most {@code maxConcurrency} tasks at once, on virtual threads when the
+     * runtime supports them.
+     *
+     * @param maxConcurrency the maximum number of tasks to run at once, usually the database pool maximum
+     * @return the executor
+     */
+    public static AsyncTaskExecutor create(int maxConcurrency) {
+        return isVirtualThreadsSupported() ? createVirtual(maxConcurrency) : createPlatform(maxConcurrency);
+    }
+
+    /**
+     * Returns whether the current runtime supports virtual threads.
+     *
+     * @return {@literal true} on Java 21 and later
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_JAVA_VERSION;
+    }
+
+    static AsyncTaskExecutor createVirtual(int maxConcurrency) {
+        Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than 0");
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxConcurrency);
+        return executor;
+    }
+
+    static AsyncTaskExecutor createPlatform(int maxConcurrency) {
+        Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than 0");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(maxConcurrency * QUEUE_CAPACITY_FACTOR);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setDaemon(true);
+        executor.setRejectedExecutionHandler(OrientDBAsyncExecutors::awaitQueueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    private static void awaitQueueCapacity(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for queue capacity", e);
+        }
+    }
+
+    private static final class DefaultExecutorHolder {
+
+        static final AsyncTaskExecutor EXECUTOR = create(OGlobalConfiguration.DB_POOL_MAX.getValueAsInteger());
+    }
+}
@@ -16,8 +16,12 @@
 package org.springframework.data.orientdb.repository.support;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.orientdb.core.OrientDBOperations;
+import org.springframework.data.orientdb.core.OrientDBQueryResultCache;
+import org.springframework.data.orientdb.observability.OrientDBMetrics;
+import org.springframework.data.orientdb.repository.AsyncOrientDBRepository;
 import org.springframework.data.orientdb.repository.query.OrientDBQueryLookupStrategy;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -36,6 +40,10 @@ import org.springframework.util.Assert;
 public class OrientDBRepositoryFactory extends RepositoryFactorySupport {
 
     private final OrientDBOperations orientDBOperations;
+    private Executor pageCountExecutor;
+    private Executor asyncExecutor;
+    private OrientDBQueryResultCache queryResultCache;
+    private OrientDBMetrics metrics;
 
     /**
      * Creates a new {@link OrientDBRepositoryFactory} with the given {@link OrientDBOperations}.
@@ -47,6 +55,51 @@ public class OrientDBRepositoryFactory extends RepositoryFactorySupport {
         this.orientDBOperations = orientDBOperations;
     }
 
+    /**
+     * Configures the {@link Executor} used by the created repositories to run {@link org.springframework.data.domain.Page}
+     * count queries in parallel with the content query.
+     *
+     * @param pageCountExecutor the executor to use, may be {@literal null} to count sequentially.
+     * @since 1.6.0
+     * @see SimpleOrientDBRepository#setPageCountExecutor(Executor)
+     */
+    public void setPageCountExecutor(Executor pageCountExecutor) {
+        this.pageCountExecutor = pageCountExecutor;
+    }
+
+    /**
+     * Configures the {@link Executor} running the operations of
+     * {@link org.springframework.data.orientdb.repository.AsyncOrientDBRepository} instances.
+     *
+     * @param asyncExecutor the executor to use, may be {@literal null} to use the default.
+     * @since 1.6.0
+     * @see SimpleAsyncOrientDBRepository#setAsyncExecutor(Executor)
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Configures the {@link OrientDBQueryResultCache} holding the results of
+     * {@link org.springframework.data.orientdb.repository.query.CachedQuery} methods.
+     *
+     * @param queryResultCache the query result cache, may be {@literal null} to disable result caching.
+     * @since 1.6.0
+     */
+    public void setQueryResultCache(OrientDBQueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+    }
+
+    /**
+     * Configures the {@link OrientDBMetrics} timing query method executions per repository method.
+     *
+     * @param metrics the metrics, may be {@literal null} to disable timing.
+     * @since 1.6.0
+     */
+    public void setMetrics(OrientDBMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
         return new OrientDBEntityInformation<>(domainClass, orientDBOperations.getMappingContext());
@@ -55,11 +108,23 @@ public class OrientDBRepositoryFactory extends RepositoryFactorySupport {
     @Override
     protected Object getTargetRepository(RepositoryInformation metadata) {
         EntityInformation<?, Object> entityInformation = getEntityInformation(metadata.getDomainType());
-        return getTargetRepositoryViaReflection(metadata, entityInformation, orientDBOperations);
+        Object repository = getTargetRepositoryViaReflection(metadata, entityInformation, orientDBOperations);
+        
+        if (repository instanceof SimpleOrientDBRepository<?, ?> simpleRepository) {
+            simpleRepository.setPageCountExecutor(pageCountExecutor);
+        }
+        if (repository instanceof SimpleAsyncOrientDBRepository<?, ?> asyncRepository && asyncExecutor != null) {
+            asyncRepository.setAsyncExecutor(asyncExecutor);
+        }
+        
+        return repository;
     }
 
     @Override
     protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        if (AsyncOrientDBRepository.class.isAssignableFrom(metadata.getRepositoryInterface())) {
+            return SimpleAsyncOrientDBRepository.class;
+        }
         return SimpleOrientDBRepository.class;
     }
 
@@ -69,7 +134,7 @@ public class OrientDBRepositoryFactory extends RepositoryFactorySupport {
             QueryMethodEvaluationContextProvider evaluationContextProvider) {
         
         return Optional.of(OrientDBQueryLookupStrategy.create(
-            orientDBOperations, evaluationContextProvider, key));
+            orientDBOperations, evaluationContextProvider, key, queryResultCache, metrics));
     }
 
 }
@@ -15,8 +15,13 @@
  */
 package org.springframework.data.orientdb.repository.support;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.orientdb.core.OrientDBOperations;
+import org.springframework.data.orientdb.core.OrientDBQueryResultCache;
+import org.springframework.data.orientdb.observability.OrientDBMetrics;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -36,6 +41,10 @@ public class OrientDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
         extends RepositoryFactoryBeanSupport<T, S, ID> {
 
     private OrientDBOperations orientDBOperations;
+    private Executor pageCountExecutor;
+    private Executor asyncExecutor;
+    private OrientDBQueryResultCache queryResultCache;
+    private OrientDBMetrics metrics;
 
     /**
      * Creates a new {@link OrientDBRepositoryFactoryBean} for the given repository interface.
@@ -56,10 +65,66 @@ public class OrientDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
         this.orientDBOperations = orientDBOperations;
     }
 
+    /**
+     * Configures the {@link Executor} used to run {@link org.springframework.data.domain.Page} count queries in
+     * parallel with the content query. Not set by default.
+     *
+     * @param pageCountExecutor the executor to use
+     * @since 1.6.0
+     */
+    public void setPageCountExecutor(Executor pageCountExecutor) {
+        this.pageCountExecutor = pageCountExecutor;
+    }
+
+    /**
+     * Configures the {@link Executor} running the operations of
+     * {@link org.springframework.data.orientdb.repository.AsyncOrientDBRepository} instances. Picks up the
+     * {@link OrientDBAsyncExecutors#BEAN_NAME} bean when not set, and uses {@link OrientDBAsyncExecutors#getDefault()}
+     * when there is none.
+     *
+     * @param asyncExecutor the executor to use
+     * @since 1.6.0
+     */
+    @Autowired(required = false)
+    public void setAsyncExecutor(@Qualifier(OrientDBAsyncExecutors.BEAN_NAME) Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Configures the {@link OrientDBQueryResultCache} holding the results of
+     * {@link org.springframework.data.orientdb.repository.query.CachedQuery} methods. Picked up automatically when
+     * caching is enabled through {@link org.springframework.data.orientdb.config.EnableOrientDBCaching}.
+     *
+     * @param queryResultCache the query result cache
+     * @since 1.6.0
+     */
+    @Autowired(required = false)
+    public void setQueryResultCache(OrientDBQueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+    }
+
+    /**
+     * Configures the {@link OrientDBMetrics} timing query method executions per repository method. Picked up
+     * automatically when observability is enabled through
+     * {@link org.springframework.data.orientdb.config.EnableOrientDBObservability}.
+     *
+     * @param metrics the metrics
+     * @since 1.6.0
+     */
+    @Autowired(required = false)
+    public void setMetrics(OrientDBMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     protected RepositoryFactorySupport createRepositoryFactory() {
         Assert.notNull(orientDBOperations, "OrientDBOperations must not be null!");
-        return new OrientDBRepositoryFactory(orientDBOperations);
+        OrientDBRepositoryFactory factory = new OrientDBRepositoryFactory(orientDBOperations);
+        factory.setPageCountExecutor(pageCountExecutor);
+        factory.setAsyncExecutor(asyncExecutor);
+        factory.setQueryResultCache(queryResultCache);
+        factory.setMetrics(metrics);
+        return factory;
     }
 
     @Override
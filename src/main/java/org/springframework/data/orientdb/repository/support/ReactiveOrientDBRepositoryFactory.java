@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.support;
+
+import java.util.Optional;
+
+import org.springframework.data.orientdb.core.ReactiveOrientDBOperations;
+import org.springframework.data.orientdb.repository.query.ReactiveOrientDBQueryLookupStrategy;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.util.Assert;
+
+/**
+ * Factory to create {@link org.springframework.data.orientdb.repository.ReactiveOrientDBRepository} instances.
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactiveOrientDBRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+    private final ReactiveOrientDBOperations operations;
+
+    /**
+     * Creates a new {@link ReactiveOrientDBRepositoryFactory} with the given {@link ReactiveOrientDBOperations}.
+     *
+     * @param operations must not be {@literal null}.
+     */
+    public ReactiveOrientDBRepositoryFactory(ReactiveOrientDBOperations operations) {
+        Assert.notNull(operations, "ReactiveOrientDBOperations must not be null!");
+        this.operations = operations;
+    }
+
+    @Override
+    public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+        return new OrientDBEntityInformation<>(domainClass, operations.getMappingContext());
+    }
+
+    @Override
+    protected Object getTargetRepository(RepositoryInformation metadata) {
+        EntityInformation<?, Object> entityInformation = getEntityInformation(metadata.getDomainType());
+        return getTargetRepositoryViaReflection(metadata, entityInformation, operations);
+    }
+
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        return SimpleReactiveOrientDBRepository.class;
+    }
+
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(
+            QueryLookupStrategy.Key key,
+            QueryMethodEvaluationContextProvider evaluationContextProvider) {
+        
+        return Optional.of(ReactiveOrientDBQueryLookupStrategy.create(operations, key));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orientdb.core.ReactiveOrientDBOperations;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.beans.factory.FactoryBean} to create
+ * {@link org.springframework.data.orientdb.repository.ReactiveOrientDBRepository} instances.
+ *
+ * @param <T> the repository type
+ * @param <S> the domain type
+ * @param <ID> the ID type
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class ReactiveOrientDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
+        extends RepositoryFactoryBeanSupport<T, S, ID> {
+
+    private ReactiveOrientDBOperations reactiveOrientDBOperations;
+
+    /**
+     * Creates a new {@link ReactiveOrientDBRepositoryFactoryBean} for the given repository interface.
+     *
+     * @param repositoryInterface must not be {@literal null}.
+     */
+    public ReactiveOrientDBRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    /**
+     * Configures the {@link ReactiveOrientDBOperations} to be used.
+     *
+     * @param reactiveOrientDBOperations the reactive OrientDB operations
+     */
+    @Autowired
+    public void setReactiveOrientDBOperations(ReactiveOrientDBOperations reactiveOrientDBOperations) {
+        this.reactiveOrientDBOperations = reactiveOrientDBOperations;
+    }
+
+    @Override
+    protected RepositoryFactorySupport createRepositoryFactory() {
+        Assert.notNull(reactiveOrientDBOperations, "ReactiveOrientDBOperations must not be null!");
+        return new ReactiveOrientDBRepositoryFactory(reactiveOrientDBOperations);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(reactiveOrientDBOperations, "ReactiveOrientDBOperations must not be null!");
+        super.afterPropertiesSet();
+    }
+
+}
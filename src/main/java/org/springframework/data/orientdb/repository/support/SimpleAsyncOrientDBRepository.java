@@ -16,18 +16,32 @@
 package org.springframework.data.orientdb.repository.support;
 
 import org.springframework.data.orientdb.core.OrientDBOperations;
+import org.springframework.data.orientdb.core.OrientDBTemplate;
+import org.springframework.data.orientdb.repository.AsyncBatchException;
+import org.springframework.data.orientdb.repository.AsyncBatchException.ChunkFailure;
 import org.springframework.data.orientdb.repository.AsyncOrientDBRepository;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Default implementation of {@link AsyncOrientDBRepository}.
- * Delegates to {@link SimpleOrientDBRepository} and wraps results in {@link CompletableFuture}.
+ * Delegates to {@link SimpleOrientDBRepository} and wraps results in {@link CompletableFuture}, running the
+ * operations on the configured async executor, {@link OrientDBAsyncExecutors#getDefault()} unless set otherwise.
+ *
+ * <p>Batch operations split their input into chunks of {@link #setBatchChunkSize(int) chunk size} elements and run
+ * up to {@link #setBatchParallelism(int) parallelism} chunks at once, each on its own session. Failed chunks don't
+ * stop the others and are reported together through an {@link AsyncBatchException}.</p>
  *
  * @param <T> the domain type
  * @param <ID> the ID type
@@ -37,6 +51,15 @@ import java.util.concurrent.CompletableFuture;
 public class SimpleAsyncOrientDBRepository<T, ID> extends SimpleOrientDBRepository<T, ID>
         implements AsyncOrientDBRepository<T, ID> {
 
+    /**
+     * Default number of chunks of a batch operation to run at once.
+     */
+    public static final int DEFAULT_BATCH_PARALLELISM = 4;
+
+    private Executor asyncExecutor = OrientDBAsyncExecutors.getDefault();
+    private int batchChunkSize = OrientDBTemplate.DEFAULT_BATCH_SIZE;
+    private int batchParallelism = DEFAULT_BATCH_PARALLELISM;
+
     /**
      * Creates a new {@link SimpleAsyncOrientDBRepository} for the given {@link OrientDBEntityInformation}
      * and {@link OrientDBOperations}.
@@ -49,58 +72,144 @@ public class SimpleAsyncOrientDBRepository<T, ID> extends SimpleOrientDBReposito
         super(metadata, orientDBOperations);
     }
 
-    @Async
+    /**
+     * Configures the {@link Executor} running the async operations. Its concurrency should not exceed the maximum
+     * size of the database pool, see {@link OrientDBAsyncExecutors#create(int)}.
+     *
+     * @param asyncExecutor must not be {@literal null}.
+     * @since 1.6.0
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        Assert.notNull(asyncExecutor, "Async executor must not be null!");
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Configures the number of elements per chunk of batch operations, {@link OrientDBTemplate#DEFAULT_BATCH_SIZE}
+     * by default.
+     *
+     * @param batchChunkSize the chunk size, must be greater than 0
+     * @since 1.6.0
+     */
+    public void setBatchChunkSize(int batchChunkSize) {
+        Assert.isTrue(batchChunkSize > 0, "Batch chunk size must be greater than 0!");
+        this.batchChunkSize = batchChunkSize;
+    }
+
+    /**
+     * Configures the maximum number of chunks of a batch operation to run at once, each holding a session of the
+     * pool. Defaults to {@link #DEFAULT_BATCH_PARALLELISM}, the concurrency of the async executor bounds it as well.
+     *
+     * @param batchParallelism the parallelism, must be greater than 0
+     * @since 1.6.0
+     */
+    public void setBatchParallelism(int batchParallelism) {
+        Assert.isTrue(batchParallelism > 0, "Batch parallelism must be greater than 0!");
+        this.batchParallelism = batchParallelism;
+    }
+
     @Override
     public CompletableFuture<Optional<T>> findByIdAsync(ID id) {
-        return CompletableFuture.supplyAsync(() -> findById(id));
+        return CompletableFuture.supplyAsync(() -> findById(id), asyncExecutor);
     }
 
-    @Async
     @Override
     public CompletableFuture<List<T>> findAllAsync() {
-        return CompletableFuture.supplyAsync(() -> findAll());
+        return CompletableFuture.supplyAsync(() -> findAll(), asyncExecutor);
     }
 
-    @Async
     @Override
     public CompletableFuture<T> saveAsync(T entity) {
-        return CompletableFuture.supplyAsync(() -> save(entity));
+        return CompletableFuture.supplyAsync(() -> save(entity), asyncExecutor);
     }
 
-    @Async
     @Override
     public CompletableFuture<List<T>> saveAllAsync(Iterable<T> entities) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<T> result = new ArrayList<>();
-            for (T entity : entities) {
-                result.add(save(entity));
-            }
-            return result;
-        });
+        Assert.notNull(entities, "Entities must not be null!");
+        return executeChunked("saveAllAsync", entities, chunk -> saveAll(chunk));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAllByIdAsync(Iterable<ID> ids) {
+        Assert.notNull(ids, "IDs must not be null!");
+        return executeChunked("findAllByIdAsync", ids, chunk -> findAllById(chunk));
     }
 
-    @Async
     @Override
     public CompletableFuture<Void> deleteByIdAsync(ID id) {
-        return CompletableFuture.runAsync(() -> deleteById(id));
+        return CompletableFuture.runAsync(() -> deleteById(id), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllByIdAsync(Iterable<? extends ID> ids) {
+        Assert.notNull(ids, "IDs must not be null!");
+        return executeChunked("deleteAllByIdAsync", ids, chunk -> {
+            deleteAllById(chunk);
+            return Collections.<Void>emptyList();
+        }).thenApply(result -> null);
     }
 
-    @Async
     @Override
     public CompletableFuture<Void> deleteAsync(T entity) {
-        return CompletableFuture.runAsync(() -> delete(entity));
+        return CompletableFuture.runAsync(() -> delete(entity), asyncExecutor);
     }
 
-    @Async
     @Override
     public CompletableFuture<Long> countAsync() {
-        return CompletableFuture.supplyAsync(() -> count());
+        return CompletableFuture.supplyAsync(() -> count(), asyncExecutor);
     }
 
-    @Async
     @Override
     public CompletableFuture<Boolean> existsByIdAsync(ID id) {
-        return CompletableFuture.supplyAsync(() -> existsById(id));
+        return CompletableFuture.supplyAsync(() -> existsById(id), asyncExecutor);
     }
-}
 
+    /**
+     * Split the given elements into chunks and apply the action to them on the async executor, running at most
+     * {@code batchParallelism} chunks at once. Each of these lanes takes the next pending chunk until none is left,
+     * so a lane holds a single executor thread. The results are concatenated in the order of the chunks.
+     */
+    private <E, R> CompletableFuture<List<R>> executeChunked(String operation, Iterable<E> elements,
+            Function<List<E>, List<R>> action) {
+        List<E> all = new ArrayList<>();
+        elements.forEach(all::add);
+        if (all.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        int chunkCount = (all.size() + batchChunkSize - 1) / batchChunkSize;
+        List<List<R>> results = new ArrayList<>(Collections.nCopies(chunkCount, null));
+        Queue<ChunkFailure> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger nextChunk = new AtomicInteger();
+
+        Runnable lane = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                int offset = chunk * batchChunkSize;
+                List<E> elementsOfChunk = all.subList(offset, Math.min(offset + batchChunkSize, all.size()));
+                try {
+                    results.set(chunk, action.apply(elementsOfChunk));
+                } catch (RuntimeException e) {
+                    failures.add(new ChunkFailure(chunk, offset, elementsOfChunk.size(), e));
+                }
+            }
+        };
+
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(batchParallelism, chunkCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = CompletableFuture.runAsync(lane, asyncExecutor);
+        }
+
+        return CompletableFuture.allOf(lanes).thenApply(done -> {
+            if (!failures.isEmpty()) {
+                List<ChunkFailure> failed = new ArrayList<>(failures);
+                failed.sort(Comparator.comparingInt(ChunkFailure::chunk));
+                throw new AsyncBatchException(operation, failed, chunkCount);
+            }
+            
+            List<R> combined = new ArrayList<>(all.size());
+            results.forEach(combined::addAll);
+            return combined;
+        });
+    }
+}
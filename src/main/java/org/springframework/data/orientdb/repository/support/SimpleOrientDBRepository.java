@@ -18,19 +18,31 @@ package org.springframework.data.orientdb.repository.support;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.orientdb.core.OrientDBOperations;
 import org.springframework.data.orientdb.core.mapping.OrientDBPersistentEntity;
 import org.springframework.data.orientdb.core.mapping.OrientDBPersistentProperty;
 import org.springframework.data.orientdb.repository.OrientDBRepository;
+import org.springframework.data.orientdb.repository.query.OrientDBScrollQueryCreator;
+import org.springframework.data.orientdb.repository.query.OrientDBScrollQueryCreator.ScrollQuery;
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 
@@ -46,6 +58,7 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
 
     private final EntityInformation<T, ID> entityInformation;
     private final OrientDBOperations orientDBOperations;
+    private Executor pageCountExecutor;
     
     @Override
     public <S extends T, R> R findBy(Example<S> example, 
@@ -63,6 +76,19 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
         this.orientDBOperations = orientDBOperations;
     }
 
+    /**
+     * Configures an {@link Executor} used to run the count query of {@link Page} lookups in parallel with the content
+     * query. Outside of a transaction the count and the content are fetched concurrently on separate sessions; inside
+     * a transaction both stay on the transaction-bound session and run one after the other. Defaults to
+     * {@literal null}, running the count sequentially and only when the page content can't determine the total.
+     *
+     * @param pageCountExecutor the executor to use, may be {@literal null}.
+     * @since 1.6.0
+     */
+    public void setPageCountExecutor(Executor pageCountExecutor) {
+        this.pageCountExecutor = pageCountExecutor;
+    }
+
     @Override
     public <S extends T> S save(S entity) {
         Assert.notNull(entity, "Entity must not be null!");
@@ -113,24 +139,29 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
             return new PageImpl<>(all, pageable, all.size());
         }
         
-        // Get total count
-        long total = count();
-        
-        // Build paginated query
+        // Build paginated query, the total is only counted when the page alone can't tell it
         String query = buildPaginatedQuery(pageable);
-        List<T> content = orientDBOperations.query(query, entityInformation.getJavaType());
+        return getPage(() -> orientDBOperations.query(query, entityInformation.getJavaType()),
+            pageable, this::count);
+    }
+
+    @Override
+    public Window<T> scroll(ScrollPosition scrollPosition, Sort sort, int limit) {
+        Assert.notNull(scrollPosition, "ScrollPosition must not be null!");
+        Assert.notNull(sort, "Sort must not be null!");
+        
+        OrientDBScrollQueryCreator scrollQueryCreator = new OrientDBScrollQueryCreator(getPersistentEntity());
+        ScrollQuery scrollQuery = scrollQueryCreator.createQuery("", new Object[0], sort, scrollPosition, limit);
+        List<T> results = orientDBOperations.query(scrollQuery.getQuery(), 
+            entityInformation.getJavaType(), scrollQuery.getParameters());
         
-        return new PageImpl<>(content, pageable, total);
+        return scrollQueryCreator.createWindow(results, scrollQuery);
     }
 
     @Override
     public List<T> findAllById(Iterable<ID> ids) {
         Assert.notNull(ids, "IDs must not be null!");
-        List<T> result = new ArrayList<>();
-        for (ID id : ids) {
-            findById(id).ifPresent(result::add);
-        }
-        return result;
+        return orientDBOperations.findAllById(ids, entityInformation.getJavaType());
     }
 
     @Override
@@ -153,13 +184,13 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
     @Override
     public void deleteAllById(Iterable<? extends ID> ids) {
         Assert.notNull(ids, "IDs must not be null!");
-        ids.forEach(this::deleteById);
+        orientDBOperations.deleteAllById(ids, entityInformation.getJavaType());
     }
 
     @Override
     public void deleteAll(Iterable<? extends T> entities) {
         Assert.notNull(entities, "Entities must not be null!");
-        entities.forEach(this::delete);
+        orientDBOperations.deleteAll(entities);
     }
 
     @Override
@@ -205,12 +236,27 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
             return new PageImpl<>(all, pageable, all.size());
         }
         
-        long total = count(example);
         ExampleQuery<S> exampleQuery = buildExampleQuery(example, pageable.getSort(), pageable);
-        List<S> content = orientDBOperations.query(exampleQuery.getQuery(), 
-            example.getProbeType(), exampleQuery.getParameters());
+        return getPage(() -> orientDBOperations.query(exampleQuery.getQuery(), 
+            example.getProbeType(), exampleQuery.getParameters()), pageable, () -> count(example));
+    }
+
+    @Override
+    public <S extends T> Window<S> scroll(Example<S> example, ScrollPosition scrollPosition, Sort sort, int limit) {
+        Assert.notNull(example, "Example must not be null!");
+        Assert.notNull(scrollPosition, "ScrollPosition must not be null!");
+        Assert.notNull(sort, "Sort must not be null!");
+        
+        ExampleQuery<S> exampleQuery = buildExampleQuery(example, null, null);
+        OrientDBScrollQueryCreator scrollQueryCreator = new OrientDBScrollQueryCreator(
+            (OrientDBPersistentEntity<?>) orientDBOperations.getMappingContext()
+                .getRequiredPersistentEntity(example.getProbeType()));
+        ScrollQuery scrollQuery = scrollQueryCreator.createQuery(exampleQuery.getCondition(), 
+            exampleQuery.getParameters(), sort, scrollPosition, limit);
+        List<S> results = orientDBOperations.query(scrollQuery.getQuery(), 
+            example.getProbeType(), scrollQuery.getParameters());
         
-        return new PageImpl<>(content, pageable, total);
+        return scrollQueryCreator.createWindow(results, scrollQuery);
     }
 
     @Override
@@ -221,19 +267,17 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
         String countQuery = "SELECT count(*) as count FROM " + getVertexClassName() + 
             exampleQuery.getWhereClause();
         
-        return orientDBOperations.execute(session -> {
-            try (var resultSet = session.query(countQuery, exampleQuery.getParameters())) {
-                if (resultSet.hasNext()) {
-                    return resultSet.next().<Long>getProperty("count");
-                }
-            }
-            return 0L;
-        });
+        return orientDBOperations.queryForLong(countQuery, exampleQuery.getParameters());
     }
 
     @Override
     public <S extends T> boolean exists(Example<S> example) {
-        return count(example) > 0;
+        Assert.notNull(example, "Example must not be null!");
+        
+        ExampleQuery<S> exampleQuery = buildExampleQuery(example, null, null);
+        String existsQuery = "SELECT @rid FROM " + getVertexClassName() + exampleQuery.getWhereClause() + " LIMIT 1";
+        
+        return orientDBOperations.queryExists(existsQuery, exampleQuery.getParameters());
     }
 
     @Override
@@ -241,6 +285,16 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
         return orientDBOperations.query(query, entityInformation.getJavaType(), params);
     }
 
+    @Override
+    public Stream<T> streamAll() {
+        return orientDBOperations.streamAll(entityInformation.getJavaType());
+    }
+
+    @Override
+    public Stream<T> stream(String query, Object... params) {
+        return orientDBOperations.stream(query, entityInformation.getJavaType(), params);
+    }
+
     @Override
     public T querySingle(String query, Object... params) {
         return orientDBOperations.querySingle(query, entityInformation.getJavaType(), params).orElse(null);
@@ -250,14 +304,49 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
     // Helper Methods
     // ============================================================
 
+    /**
+     * Assemble a {@link Page} from the given content and count lookups. The count is skipped when the content already
+     * determines the total (first page not full, or last page), and runs on the configured page count executor when
+     * no transaction is bound to the current thread.
+     */
+    private <S> Page<S> getPage(Supplier<List<S>> content, Pageable pageable, LongSupplier count) {
+        if (pageCountExecutor == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PageableExecutionUtils.getPage(content.get(), pageable, count);
+        }
+
+        CompletableFuture<Long> total = CompletableFuture.supplyAsync(count::getAsLong, pageCountExecutor);
+        try {
+            return PageableExecutionUtils.getPage(content.get(), pageable, () -> awaitCount(total));
+        } finally {
+            // Handle the case where the count turned out to be unnecessary
+            total.cancel(false);
+        }
+    }
+
+    private static long awaitCount(CompletableFuture<Long> total) {
+        try {
+            return total.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Get the persistent entity for this repository's domain type.
+     */
+    private OrientDBPersistentEntity<?> getPersistentEntity() {
+        return (OrientDBPersistentEntity<?>) orientDBOperations.getMappingContext()
+            .getRequiredPersistentEntity(entityInformation.getJavaType());
+    }
+
     /**
      * Get the vertex class name for this entity.
      */
     private String getVertexClassName() {
-        OrientDBPersistentEntity<?> persistentEntity = 
-            (OrientDBPersistentEntity<?>) orientDBOperations.getMappingContext()
-                .getRequiredPersistentEntity(entityInformation.getJavaType());
-        return persistentEntity.getVertexClassName();
+        return getPersistentEntity().getVertexClassName();
     }
 
     /**
@@ -379,10 +468,9 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
         StringBuilder query = new StringBuilder("SELECT FROM ");
         query.append(getVertexClassName());
         
-        String whereClause = "";
+        String condition = String.join(" AND ", conditions);
         if (!conditions.isEmpty()) {
-            whereClause = " WHERE " + String.join(" AND ", conditions);
-            query.append(whereClause);
+            query.append(" WHERE ").append(condition);
         }
         
         // Add sorting
@@ -408,7 +496,7 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
             query.append(pageable.getPageSize());
         }
         
-        return new ExampleQuery<>(query.toString(), whereClause, parameters.toArray());
+        return new ExampleQuery<>(query.toString(), condition, parameters.toArray());
     }
 
     /**
@@ -416,12 +504,12 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
      */
     private static class ExampleQuery<S> {
         private final String query;
-        private final String whereClause;
+        private final String condition;
         private final Object[] parameters;
 
-        ExampleQuery(String query, String whereClause, Object[] parameters) {
+        ExampleQuery(String query, String condition, Object[] parameters) {
             this.query = query;
-            this.whereClause = whereClause;
+            this.condition = condition;
             this.parameters = parameters;
         }
 
@@ -429,8 +517,12 @@ public class SimpleOrientDBRepository<T, ID> implements OrientDBRepository<T, ID
             return query;
         }
 
+        public String getCondition() {
+            return condition;
+        }
+
         public String getWhereClause() {
-            return whereClause;
+            return condition.isEmpty() ? "" : " WHERE " + condition;
         }
 
         public Object[] getParameters() {
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.repository.support;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.orientdb.core.ReactiveOrientDBOperations;
+import org.springframework.data.orientdb.repository.ReactiveOrientDBRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Default implementation of the {@link ReactiveOrientDBRepository} interface.
+ *
+ * @param <T> the domain type
+ * @param <ID> the ID type
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class SimpleReactiveOrientDBRepository<T, ID> implements ReactiveOrientDBRepository<T, ID> {
+
+    private final EntityInformation<T, ID> entityInformation;
+    private final ReactiveOrientDBOperations operations;
+
+    /**
+     * Creates a new {@link SimpleReactiveOrientDBRepository} for the given {@link EntityInformation} and
+     * {@link ReactiveOrientDBOperations}.
+     *
+     * @param entityInformation must not be {@literal null}.
+     * @param operations must not be {@literal null}.
+     */
+    public SimpleReactiveOrientDBRepository(EntityInformation<T, ID> entityInformation,
+            ReactiveOrientDBOperations operations) {
+        Assert.notNull(entityInformation, "EntityInformation must not be null!");
+        Assert.notNull(operations, "ReactiveOrientDBOperations must not be null!");
+
+        this.entityInformation = entityInformation;
+        this.operations = operations;
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+        return operations.save(entity);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+        return operations.saveAll(entities);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+        Assert.notNull(entityStream, "Entity stream must not be null!");
+        return Flux.from(entityStream).concatMap(operations::save);
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+        Assert.notNull(id, "ID must not be null!");
+        return operations.findById(id, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<ID> id) {
+        Assert.notNull(id, "ID must not be null!");
+        return Mono.from(id).flatMap(value -> findById(value));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ID id) {
+        Assert.notNull(id, "ID must not be null!");
+        return operations.existsById(id, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<ID> id) {
+        Assert.notNull(id, "ID must not be null!");
+        return Mono.from(id).flatMap(value -> existsById(value));
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return operations.findAll(entityInformation.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+        Assert.notNull(ids, "IDs must not be null!");
+        return operations.findAllById(ids, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<ID> idStream) {
+        Assert.notNull(idStream, "ID stream must not be null!");
+        return Flux.from(idStream).collectList().flatMapMany(ids -> findAllById(ids));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return operations.count(entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<Void> deleteById(ID id) {
+        Assert.notNull(id, "ID must not be null!");
+        return operations.deleteById(id, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<ID> id) {
+        Assert.notNull(id, "ID must not be null!");
+        return Mono.from(id).flatMap(value -> deleteById(value));
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+        return operations.delete(entity);
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+        Assert.notNull(ids, "IDs must not be null!");
+        return operations.deleteAllById(ids, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+        return operations.<T>deleteAll(entities);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+        Assert.notNull(entityStream, "Entity stream must not be null!");
+        return Flux.from(entityStream).collectList().flatMap(entities -> operations.<T>deleteAll(entities));
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return operations.deleteAll(entityInformation.getJavaType());
+    }
+}
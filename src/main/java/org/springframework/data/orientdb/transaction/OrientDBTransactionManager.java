@@ -17,11 +17,15 @@ package org.springframework.data.orientdb.transaction;
 
 import com.orientechnologies.orient.core.db.ODatabasePool;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.orientdb.core.OrientDBExceptionTranslator;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.support.AbstractPlatformTransactionManager;
 import org.springframework.transaction.support.DefaultTransactionStatus;
 import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.SmartTransactionObject;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -38,18 +42,38 @@ import org.springframework.util.Assert;
  * {@code pool.acquire()} call. Spring classes such as {@link org.springframework.data.orientdb.core.OrientDBTemplate}
  * use this strategy implicitly.
  *
+ * <p>Commit failures caused by OrientDB are translated by {@link OrientDBExceptionTranslator}, so MVCC version
+ * conflicts surface as {@link org.springframework.dao.OptimisticLockingFailureException} and can be retried with
+ * {@link RetryingTransactionTemplate}.
+ *
+ * <p>Read-only transactions bind a session without starting an OrientDB transaction, so reads skip the transaction
+ * bookkeeping, and commit and rollback are no-ops. {@link org.springframework.data.orientdb.core.OrientDBTemplate}
+ * rejects writes within them. Read-only transactions may be routed to a separate pool, e.g. of a replica, through
+ * {@link #setReadOnlyDatabasePool(ODatabasePool)}.
+ *
+ * <p>{@code PROPAGATION_REQUIRES_NEW} and {@code PROPAGATION_NOT_SUPPORTED} suspend the current transaction, unbinding
+ * its session until the inner unit completes. {@code PROPAGATION_REQUIRES_NEW} binds a second session, so the inner
+ * transaction commits independently. {@code PROPAGATION_NESTED} uses OrientDB's nested begin on the current session:
+ * OrientDB has no savepoints, so a nested commit only takes effect with the outer commit, and a nested rollback
+ * marks the outer transaction rollback-only.
+ *
  * @author Spring Data OrientDB Team
  * @since 1.4.0
  */
 public class OrientDBTransactionManager extends AbstractPlatformTransactionManager 
         implements ResourceTransactionManager {
 
+    private final PersistenceExceptionTranslator exceptionTranslator = new OrientDBExceptionTranslator();
+
     private ODatabasePool databasePool;
 
+    private ODatabasePool readOnlyDatabasePool;
+
     /**
      * Create a new OrientDBTransactionManager.
      */
     public OrientDBTransactionManager() {
+        setNestedTransactionAllowed(true);
     }
 
     /**
@@ -58,6 +82,7 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
      * @param databasePool the OrientDB database pool to manage transactions for
      */
     public OrientDBTransactionManager(ODatabasePool databasePool) {
+        setNestedTransactionAllowed(true);
         setDatabasePool(databasePool);
         afterPropertiesSet();
     }
@@ -80,6 +105,28 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
         return this.databasePool;
     }
 
+    /**
+     * Set the pool to acquire the sessions of read-only transactions from, e.g. a pool connected to a replica.
+     * The sessions are bound to the thread for the {@link #getDatabasePool() database pool}, so that all operations
+     * within the transaction use them. Defaults to the database pool.
+     *
+     * @param readOnlyDatabasePool the read-only database pool, {@literal null} to use the database pool
+     * @since 1.6.0
+     */
+    public void setReadOnlyDatabasePool(ODatabasePool readOnlyDatabasePool) {
+        this.readOnlyDatabasePool = readOnlyDatabasePool;
+    }
+
+    /**
+     * Return the pool to acquire the sessions of read-only transactions from, if different from the database pool.
+     *
+     * @return the read-only database pool, or {@literal null}
+     * @since 1.6.0
+     */
+    public ODatabasePool getReadOnlyDatabasePool() {
+        return this.readOnlyDatabasePool;
+    }
+
     public void afterPropertiesSet() {
         Assert.notNull(this.databasePool, "Property 'databasePool' is required");
     }
@@ -104,29 +151,46 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
         return (txObject.hasSessionHolder() && txObject.getSessionHolder().isTransactionActive());
     }
 
+    @Override
+    protected boolean useSavepointForNestedTransaction() {
+        // OrientDB has no savepoints, nested transactions use its nested begin instead
+        return false;
+    }
+
     @Override
     protected void doBegin(Object transaction, TransactionDefinition definition) 
             throws TransactionException {
         OrientDBTransactionObject txObject = (OrientDBTransactionObject) transaction;
 
         if (txObject.hasSessionHolder()) {
+            if (definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_NESTED
+                    && txObject.getSessionHolder().isTransactionActive()) {
+                beginNested(txObject);
+                return;
+            }
             throw new IllegalStateException(
                 "Pre-bound OrientDB session found - OrientDBTransactionManager does not support " +
                 "running within existing transactions. Use PROPAGATION_REQUIRES_NEW to force a new transaction.");
         }
 
         try {
+            boolean readOnly = definition.isReadOnly();
+            ODatabasePool pool = readOnly && readOnlyDatabasePool != null ? readOnlyDatabasePool : databasePool;
             if (logger.isDebugEnabled()) {
-                logger.debug("Acquired OrientDB session [" + databasePool + "] for OrientDB transaction");
+                logger.debug("Acquired OrientDB session [" + pool + "] for " + (readOnly ? "read-only " : "")
+                    + "OrientDB transaction");
             }
 
-            ODatabaseSession session = databasePool.acquire();
+            ODatabaseSession session = pool.acquire();
             
-            // Begin OrientDB transaction
-            session.begin();
+            // Begin OrientDB transaction, read-only transactions need none
+            if (!readOnly) {
+                session.begin();
+            }
 
             SessionHolder sessionHolder = new SessionHolder(session);
             sessionHolder.setTransactionActive(true);
+            sessionHolder.setReadOnly(readOnly);
             sessionHolder.setSynchronizedWithTransaction(true);
 
             // Set timeout if specified
@@ -144,11 +208,63 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
         }
     }
 
+    /**
+     * Begin a nested OrientDB transaction on the session of the current transaction.
+     */
+    private void beginNested(OrientDBTransactionObject txObject) {
+        SessionHolder sessionHolder = txObject.getSessionHolder();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Beginning nested OrientDB transaction on session [" + sessionHolder.getSession() + "]");
+        }
+        
+        // Read-only transactions have no OrientDB transaction to nest into
+        if (!sessionHolder.isReadOnly()) {
+            try {
+                sessionHolder.getSession().begin();
+            }
+            catch (RuntimeException ex) {
+                throw new TransactionException("Could not begin nested OrientDB transaction", ex) {};
+            }
+        }
+        txObject.setNested(true);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        OrientDBTransactionObject txObject = (OrientDBTransactionObject) transaction;
+        txObject.setSessionHolder(null, false);
+        return TransactionSynchronizationManager.unbindResource(getDatabasePool());
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        SessionHolder sessionHolder = (SessionHolder) suspendedResources;
+        TransactionSynchronizationManager.bindResource(getDatabasePool(), sessionHolder);
+        
+        // The inner unit may have activated another session on this thread
+        sessionHolder.getSession().activateOnCurrentThread();
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        OrientDBTransactionObject txObject = (OrientDBTransactionObject) status.getTransaction();
+        if (status.isDebug()) {
+            logger.debug("Setting OrientDB transaction on session [" + txObject.getSessionHolder().getSession() +
+                "] rollback-only");
+        }
+        txObject.getSessionHolder().setRollbackOnly();
+    }
+
     @Override
     protected void doCommit(DefaultTransactionStatus status) throws TransactionException {
         OrientDBTransactionObject txObject = (OrientDBTransactionObject) status.getTransaction();
         ODatabaseSession session = txObject.getSessionHolder().getSession();
         
+        // Handle read-only transactions, which have no OrientDB transaction to commit
+        if (txObject.getSessionHolder().isReadOnly()) {
+            return;
+        }
+        
         if (status.isDebug()) {
             logger.debug("Committing OrientDB transaction on session [" + session + "]");
         }
@@ -156,7 +272,12 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
         try {
             session.commit();
         }
-        catch (Exception ex) {
+        catch (RuntimeException ex) {
+            // Handle version conflicts and other OrientDB failures with translated exceptions
+            DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(ex);
+            if (translated != null) {
+                throw translated;
+            }
             throw new TransactionException("Could not commit OrientDB transaction", ex) {};
         }
     }
@@ -166,6 +287,11 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
         OrientDBTransactionObject txObject = (OrientDBTransactionObject) status.getTransaction();
         ODatabaseSession session = txObject.getSessionHolder().getSession();
         
+        // Handle read-only transactions, which have no OrientDB transaction to roll back
+        if (txObject.getSessionHolder().isReadOnly()) {
+            return;
+        }
+        
         if (status.isDebug()) {
             logger.debug("Rolling back OrientDB transaction on session [" + session + "]");
         }
@@ -176,12 +302,22 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
         catch (Exception ex) {
             throw new TransactionException("Could not roll back OrientDB transaction", ex) {};
         }
+        
+        // Rolling back a nested OrientDB transaction dooms the outer one as well
+        if (txObject.isNested()) {
+            txObject.getSessionHolder().setRollbackOnly();
+        }
     }
 
     @Override
     protected void doCleanupAfterCompletion(Object transaction) {
         OrientDBTransactionObject txObject = (OrientDBTransactionObject) transaction;
 
+        // Nested transactions keep the session of the outer transaction
+        if (txObject.isNested()) {
+            return;
+        }
+
         // Remove the session holder from the thread
         TransactionSynchronizationManager.unbindResource(getDatabasePool());
 
@@ -216,10 +352,11 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
     /**
      * OrientDB transaction object, representing a SessionHolder.
      */
-    private static class OrientDBTransactionObject {
+    private static class OrientDBTransactionObject implements SmartTransactionObject {
 
         private SessionHolder sessionHolder;
         private boolean newSessionHolder;
+        private boolean nested;
 
         public void setSessionHolder(SessionHolder sessionHolder, boolean newSessionHolder) {
             this.sessionHolder = sessionHolder;
@@ -237,6 +374,24 @@ public class OrientDBTransactionManager extends AbstractPlatformTransactionManag
         public boolean isNewSessionHolder() {
             return this.newSessionHolder;
         }
+
+        public void setNested(boolean nested) {
+            this.nested = nested;
+        }
+
+        public boolean isNested() {
+            return this.nested;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return (this.sessionHolder != null && this.sessionHolder.isRollbackOnly());
+        }
+
+        @Override
+        public void flush() {
+            // Writes are sent to OrientDB on commit
+        }
     }
 }
 
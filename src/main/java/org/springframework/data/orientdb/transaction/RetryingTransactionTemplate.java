@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.orientdb.transaction;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.orientechnologies.common.concur.ONeedRetryException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TransactionTemplate} re-running the transactional unit in a new transaction when it fails with an MVCC
+ * conflict, i.e. a {@link ConcurrencyFailureException} such as the
+ * {@link org.springframework.dao.OptimisticLockingFailureException} translated from OrientDB's
+ * {@code OConcurrentModificationException}, or an untranslated {@link ONeedRetryException}.
+ *
+ * <p>Attempts are separated by an exponential backoff with full jitter: the delay before attempt {@code n + 1} is
+ * random between zero and {@code min(maxBackoff, initialBackoff * 2^(n - 1))}. The callback must therefore be safe to
+ * run more than once, e.g. by re-reading the records it modifies.</p>
+ *
+ * <p>Retries only happen if the template starts the outermost transaction. When participating in a surrounding
+ * transaction, the conflict is propagated so that the outermost unit can be retried as a whole.</p>
+ *
+ * <pre>
+ * RetryingTransactionTemplate template = new RetryingTransactionTemplate(transactionManager);
+ * template.setMaxAttempts(5);
+ * template.executeWithoutResult(status -&gt; {
+ *     Counter counter = repository.findById(id).orElseThrow();
+ *     counter.increment();
+ *     repository.save(counter);
+ * });
+ * </pre>
+ *
+ * @author Spring Data OrientDB Team
+ * @since 1.6.0
+ */
+public class RetryingTransactionTemplate extends TransactionTemplate {
+
+    /**
+     * Default maximum number of attempts, including the first one.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * Default upper bound of the delay before the first retry.
+     */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(10);
+
+    /**
+     * Default upper bound of the delay between attempts.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+    /**
+     * Construct a new {@link RetryingTransactionTemplate} for bean usage.
+     * Note: The PlatformTransactionManager needs to be set before any {@code execute} calls.
+     */
+    public RetryingTransactionTemplate() {
+    }
+
+    /**
+     * Construct a new {@link RetryingTransactionTemplate} using the given transaction manager.
+     *
+     * @param transactionManager the transaction management strategy to be used
+     */
+    public RetryingTransactionTemplate(PlatformTransactionManager transactionManager) {
+        super(transactionManager);
+    }
+
+    /**
+     * Construct a new {@link RetryingTransactionTemplate} using the given transaction manager, taking its default
+     * settings from the given transaction definition.
+     *
+     * @param transactionManager the transaction management strategy to be used
+     * @param transactionDefinition the transaction definition to copy the default settings from
+     */
+    public RetryingTransactionTemplate(PlatformTransactionManager transactionManager,
+            TransactionDefinition transactionDefinition) {
+        super(transactionManager, transactionDefinition);
+    }
+
+    /**
+     * Set the maximum number of attempts, including the first one. Defaults to {@value #DEFAULT_MAX_ATTEMPTS}.
+     *
+     * @param maxAttempts the maximum number of attempts, at least one
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        Assert.isTrue(maxAttempts > 0, "Max attempts must be greater than zero");
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Return the maximum number of attempts, including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Set the upper bound of the delay before the first retry, doubled for every further retry.
+     *
+     * @param initialBackoff the initial backoff
+     */
+    public void setInitialBackoff(Duration initialBackoff) {
+        Assert.isTrue(initialBackoff != null && !initialBackoff.isNegative(), "Initial backoff must not be negative");
+        this.initialBackoff = initialBackoff;
+    }
+
+    /**
+     * Set the upper bound of the delay between attempts.
+     *
+     * @param maxBackoff the maximum backoff
+     */
+    public void setMaxBackoff(Duration maxBackoff) {
+        Assert.isTrue(maxBackoff != null && !maxBackoff.isNegative(), "Max backoff must not be negative");
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+        // Handle participation in a surrounding transaction, which has to be retried as a whole
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && getPropagationBehavior() != PROPAGATION_REQUIRES_NEW) {
+            return super.execute(action);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return super.execute(action);
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts || !isConflict(ex)) {
+                    throw ex;
+                }
+                long delay = backoffMillis(attempt);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Transaction attempt " + attempt + " failed with a conflict, retrying in "
+                        + delay + " ms", ex);
+                }
+                sleep(delay, ex);
+            }
+        }
+    }
+
+    /**
+     * Determine whether the given exception is caused by an MVCC conflict.
+     *
+     * @param ex the exception thrown by the transactional unit or the commit
+     * @return whether to retry
+     */
+    protected boolean isConflict(Throwable ex) {
+        Throwable current = ex;
+        for (int depth = 0; current != null && depth < 10; depth++) {
+            if (current instanceof ConcurrencyFailureException || current instanceof ONeedRetryException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private long backoffMillis(int attempt) {
+        long bound = initialBackoff.toMillis() << Math.min(attempt - 1, 30);
+        bound = Math.min(bound < 0 ? Long.MAX_VALUE : bound, maxBackoff.toMillis());
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+    }
+
+    private static void sleep(long millis, RuntimeException failure) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+}
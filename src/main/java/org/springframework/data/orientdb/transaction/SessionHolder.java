@@ -33,6 +33,7 @@ public class SessionHolder extends ResourceHolderSupport {
 
     private final ODatabaseSession session;
     private boolean transactionActive = false;
+    private boolean readOnly = false;
 
     /**
      * Create a new SessionHolder for the given OrientDB session.
@@ -80,10 +81,31 @@ public class SessionHolder extends ResourceHolderSupport {
         return this.transactionActive;
     }
 
+    /**
+     * Set whether this holder represents a read-only transaction, running without an OrientDB transaction.
+     *
+     * @param readOnly true if the transaction is read-only
+     * @since 1.6.0
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Return whether this holder represents a read-only transaction, running without an OrientDB transaction.
+     *
+     * @return true if the transaction is read-only
+     * @since 1.6.0
+     */
+    public boolean isReadOnly() {
+        return this.readOnly;
+    }
+
     @Override
     public void clear() {
         super.clear();
         this.transactionActive = false;
+        this.readOnly = false;
     }
 }
 
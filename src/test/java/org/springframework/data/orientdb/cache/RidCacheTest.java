@@ -0,0 +1,63 @@
+package org.springframework.data.orientdb.cache;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the bounded record ID cache.
+ */
+@DisplayName("RID Cache Tests")
+class RidCacheTest {
+
+    @Test
+    @DisplayName("Values should be stored and evicted by record ID")
+    void testPutLookupAndEvict() {
+        // Given
+        RidCache cache = new RidCache("entities", 100);
+
+        // When
+        cache.put(new ORecordId(12, 3), "person");
+
+        // Then
+        assertThat(cache.lookup(new ORecordId(12, 3))).isEqualTo("person");
+        assertThat(cache.get("#12:3").get()).isEqualTo("person");
+        assertThat(cache.lookup(new ORecordId(13, 3))).isNull();
+
+        // When
+        cache.evict(new ORecordId(12, 3));
+
+        // Then
+        assertThat(cache.lookup(new ORecordId(12, 3))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Cache should not grow beyond its maximum size")
+    void testEvictsBeyondMaximumSize() {
+        // Given
+        RidCache cache = new RidCache("entities", 64, 4, true);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(new ORecordId(i % 7, i), i);
+        }
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.lookup(new ORecordId(999 % 7, 999))).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("Cache should be selected for the entity cache name only")
+    void testCacheManager() {
+        // Given
+        RidCacheManager cacheManager = new RidCacheManager(10);
+
+        // Then
+        assertThat(cacheManager.getCache("orientdb-entities")).isInstanceOf(RidCache.class);
+        assertThat(cacheManager.getCache("orientdb-queries")).isNotInstanceOf(RidCache.class);
+    }
+}
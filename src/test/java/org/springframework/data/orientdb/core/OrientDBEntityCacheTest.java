@@ -0,0 +1,86 @@
+package org.springframework.data.orientdb.core;
+
+import java.util.Set;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.OVertex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for storing and evicting entity cache snapshots.
+ */
+@DisplayName("Entity Cache Tests")
+class OrientDBEntityCacheTest {
+
+    private final OrientDBEntityCache cache =
+        new OrientDBEntityCache(new ConcurrentMapCache(OrientDBEntityCache.CACHE_NAME));
+
+    private final ORID rid = new ORecordId(12, 0);
+
+    @Test
+    @DisplayName("Loaded records should be cached")
+    void testCachesLoadedRecord() {
+        // When
+        cache.put(vertex(rid, 1), cache.getStamp());
+
+        // Then
+        assertThat(cache.contains(rid)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Records loaded before an eviction should not be cached")
+    void testSkipsRecordLoadedBeforeEviction() {
+        // Given
+        long stamp = cache.getStamp();
+        OVertex stale = vertex(rid, 1);
+
+        // When
+        cache.evict(rid);
+        cache.put(stale, stamp);
+
+        // Then
+        assertThat(cache.contains(rid)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Records loaded before clearing the cache should not be cached")
+    void testSkipsRecordLoadedBeforeClear() {
+        // Given
+        long stamp = cache.getStamp();
+
+        // When
+        cache.clear();
+        cache.put(vertex(rid, 1), stamp);
+
+        // Then
+        assertThat(cache.contains(rid)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Records loaded after an eviction should be cached")
+    void testCachesRecordLoadedAfterEviction() {
+        // Given
+        cache.evict(rid);
+
+        // When
+        cache.put(vertex(rid, 2), cache.getStamp());
+
+        // Then
+        assertThat(cache.contains(rid)).isTrue();
+    }
+
+    private static OVertex vertex(ORID rid, int version) {
+        OVertex vertex = mock(OVertex.class);
+        when(vertex.getIdentity()).thenReturn(rid);
+        when(vertex.getVersion()).thenReturn(version);
+        when(vertex.getPropertyNames()).thenReturn(Set.of("firstName"));
+        when(vertex.<Object>getProperty("firstName")).thenReturn("John");
+        return vertex;
+    }
+}
@@ -0,0 +1,35 @@
+package org.springframework.data.orientdb.core;
+
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the OrientDB exception translation.
+ */
+@DisplayName("Exception Translator Tests")
+class OrientDBExceptionTranslatorTest {
+
+    private final OrientDBExceptionTranslator translator = new OrientDBExceptionTranslator();
+
+    @Test
+    @DisplayName("Wrapped OrientDB exceptions should be translated")
+    void testTranslatesWrappedExceptions() {
+        // Given
+        OCommandSQLParsingException cause = new OCommandSQLParsingException("Invalid query");
+
+        // When / Then
+        assertThat(translator.translateExceptionIfPossible(new RuntimeException(cause)))
+            .isInstanceOf(InvalidDataAccessResourceUsageException.class)
+            .hasCause(cause);
+    }
+
+    @Test
+    @DisplayName("Other exceptions should not be translated")
+    void testIgnoresOtherExceptions() {
+        assertThat(translator.translateExceptionIfPossible(new IllegalStateException("failure"))).isNull();
+    }
+}
@@ -0,0 +1,93 @@
+package org.springframework.data.orientdb.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the query result cache invalidation.
+ */
+@DisplayName("Query Result Cache Tests")
+class OrientDBQueryResultCacheTest {
+
+    private final ConcurrentMapCache backingCache = new ConcurrentMapCache(OrientDBQueryResultCache.CACHE_NAME);
+
+    private final OrientDBQueryResultCache cache = new OrientDBQueryResultCache(backingCache);
+
+    @Test
+    @DisplayName("Results should be cached by query and parameters")
+    void testCachesByQueryAndParameters() {
+        // When
+        cache.put("Person", "SELECT FROM Person WHERE status = ?", new Object[] {"ACTIVE"}, "active",
+            cache.getGeneration("Person"));
+
+        // Then
+        assertThat(cache.get("Person", "SELECT FROM Person WHERE status = ?", new Object[] {"ACTIVE"}).get())
+            .isEqualTo("active");
+        assertThat(cache.get("Person", "SELECT FROM Person WHERE status = ?", new Object[] {"INACTIVE"})).isNull();
+    }
+
+    @Test
+    @DisplayName("Writes to a vertex class should only evict results of that class")
+    void testInvalidatesVertexClass() {
+        // Given
+        cache.put("Person", "SELECT FROM Person", new Object[0], "people", cache.getGeneration("Person"));
+        cache.put("Address", "SELECT FROM Address", new Object[0], "addresses", cache.getGeneration("Address"));
+
+        // When
+        cache.invalidate("Person");
+
+        // Then
+        assertThat(cache.get("Person", "SELECT FROM Person", new Object[0])).isNull();
+        assertThat(cache.get("Address", "SELECT FROM Address", new Object[0]).get()).isEqualTo("addresses");
+    }
+
+    @Test
+    @DisplayName("Results computed before an invalidation should not be stored")
+    void testSkipsResultsOfPreviousGeneration() {
+        // Given
+        long generation = cache.getGeneration("Person");
+
+        // When
+        cache.invalidate("Person");
+        cache.put("Person", "SELECT FROM Person", new Object[0], "stale", generation);
+
+        // Then
+        assertThat(cache.get("Person", "SELECT FROM Person", new Object[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("Results of an invalidated generation should be evicted on lookup")
+    void testEvictsResultsOfPreviousGenerationOnLookup() {
+        // Given
+        cache.put("Person", "SELECT FROM Person", new Object[0], "people", cache.getGeneration("Person"));
+        cache.invalidate("Person");
+
+        // When
+        Object cached = cache.get("Person", "SELECT FROM Person", new Object[0]);
+
+        // Then
+        assertThat(cached).isNull();
+        assertThat(backingCache.getNativeCache()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Results evicted by the underlying cache should not be referenced anymore")
+    void testReleasesResultsEvictedByUnderlyingCache() {
+        // Given
+        cache.put("Person", "SELECT FROM Person WHERE age = ?", new Object[] {42}, "people",
+            cache.getGeneration("Person"));
+
+        // When
+        backingCache.clear();
+
+        // Then
+        assertThat(cache.get("Person", "SELECT FROM Person WHERE age = ?", new Object[] {42})).isNull();
+        cache.put("Person", "SELECT FROM Person WHERE age = ?", new Object[] {42}, "again",
+            cache.getGeneration("Person"));
+        assertThat(cache.get("Person", "SELECT FROM Person WHERE age = ?", new Object[] {42}).get())
+            .isEqualTo("again");
+    }
+}
@@ -0,0 +1,92 @@
+package org.springframework.data.orientdb.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.orientdb.core.mapping.event.BeforeDeleteEvent;
+import org.springframework.data.orientdb.integration.shared.TestPerson;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for publishing delete events from bulk deletes.
+ */
+@DisplayName("Template Bulk Delete Event Tests")
+class OrientDBTemplateDeleteEventsTest {
+
+    private OrientDBTemplate template;
+    private ODatabaseSession session;
+
+    @BeforeEach
+    void setUp() {
+        ODatabasePool pool = mock(ODatabasePool.class);
+        session = mock(ODatabaseSession.class);
+        when(pool.acquire()).thenReturn(session);
+        when(session.command(anyString())).thenReturn(mock(OResultSet.class));
+        template = new OrientDBTemplate(pool);
+    }
+
+    @Test
+    @DisplayName("deleteAll(entities) should publish events to listeners of a parent context")
+    void testPublishesToParentContextListeners() {
+        // Given
+        RecordingListener listener = new RecordingListener();
+        GenericApplicationContext parent = new GenericApplicationContext();
+        parent.addApplicationListener(listener);
+        parent.refresh();
+        GenericApplicationContext child = new GenericApplicationContext(parent);
+        child.refresh();
+        template.setApplicationEventPublisher(child);
+        TestPerson person = person("#12:0");
+
+        // When
+        template.deleteAll(List.of(person));
+
+        // Then
+        assertThat(listener.deleted).containsExactly(person);
+        verify(session).command("DELETE VERTEX [#12:0]");
+    }
+
+    @Test
+    @DisplayName("deleteAll(entities) should publish events to lazy listener beans")
+    void testPublishesToLazyListenerBeans() {
+        // Given
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("listener", RecordingListener.class, definition -> definition.setLazyInit(true));
+        context.refresh();
+        template.setApplicationEventPublisher(context);
+        TestPerson person = person("#12:1");
+
+        // When
+        template.deleteAll(List.of(person));
+
+        // Then
+        assertThat(context.getBean(RecordingListener.class).deleted).containsExactly(person);
+    }
+
+    private static TestPerson person(String id) {
+        TestPerson person = new TestPerson("John", "Doe", 30);
+        person.setId(id);
+        return person;
+    }
+
+    static class RecordingListener implements ApplicationListener<BeforeDeleteEvent> {
+
+        private final List<Object> deleted = new ArrayList<>();
+
+        @Override
+        public void onApplicationEvent(BeforeDeleteEvent event) {
+            deleted.add(event.getEntity());
+        }
+    }
+}
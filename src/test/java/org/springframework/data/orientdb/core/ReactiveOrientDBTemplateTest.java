@@ -0,0 +1,90 @@
+package org.springframework.data.orientdb.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for limiting the operations in progress of the reactive template.
+ */
+@DisplayName("Reactive Template Concurrency Tests")
+class ReactiveOrientDBTemplateTest {
+
+    private OrientDBOperations operations;
+    private ReactiveOrientDBTemplate template;
+    private AtomicInteger closed;
+
+    @BeforeEach
+    void setUp() {
+        operations = mock(OrientDBOperations.class);
+        closed = new AtomicInteger();
+        when(operations.streamAll(String.class))
+            .thenAnswer(invocation -> Stream.of("a", "b").onClose(closed::incrementAndGet));
+        template = new ReactiveOrientDBTemplate(operations, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        template.destroy();
+    }
+
+    @Test
+    @DisplayName("Streams beyond the maximum concurrency should wait until a running stream is closed")
+    void testQueuesStreamsBeyondMaxConcurrency() {
+        // Given
+        List<String> received = new CopyOnWriteArrayList<>();
+
+        // When
+        StepVerifier.create(template.findAll(String.class), 1)
+            .expectNext("a")
+            .then(() -> {
+                template.findAll(String.class).subscribe(received::add);
+
+                // Then
+                verify(operations, after(200).times(1)).streamAll(String.class);
+                assertThat(received).isEmpty();
+            })
+            .thenCancel()
+            .verify(Duration.ofSeconds(10));
+
+        // Then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(received).containsExactly("a", "b"));
+        assertThat(closed).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A stream cancelled while waiting should pass its permit on")
+    void testCancelledWaitingStreamPassesPermitOn() {
+        // Given
+        List<String> received = new CopyOnWriteArrayList<>();
+
+        // When
+        StepVerifier.create(template.findAll(String.class), 1)
+            .expectNext("a")
+            .then(() -> {
+                Disposable waiting = template.findAll(String.class).subscribe();
+                waiting.dispose();
+                template.findAll(String.class).subscribe(received::add);
+            })
+            .thenCancel()
+            .verify(Duration.ofSeconds(10));
+
+        // Then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(received).containsExactly("a", "b"));
+        verify(operations, times(2)).streamAll(String.class);
+        assertThat(closed).hasValue(2);
+    }
+}
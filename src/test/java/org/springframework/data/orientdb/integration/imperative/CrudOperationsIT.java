@@ -4,6 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.orientdb.core.OrientDBEntityCache;
+import org.springframework.data.orientdb.core.OrientDBTemplate;
+import org.springframework.data.orientdb.integration.shared.TestAddress;
 import org.springframework.data.orientdb.integration.shared.TestPerson;
 import org.springframework.data.orientdb.integration.shared.TestPersonRepository;
 import org.springframework.data.orientdb.test.OrientDBTestBase;
@@ -23,9 +27,13 @@ class CrudOperationsIT extends OrientDBTestBase {
     @Autowired
     private TestPersonRepository repository;
 
+    @Autowired
+    private OrientDBTemplate template;
+
     @BeforeEach
     void createSchema() {
         executeCommand("CREATE CLASS TestPerson IF NOT EXISTS EXTENDS V");
+        executeCommand("CREATE CLASS TestAddress IF NOT EXISTS EXTENDS V");
     }
 
     @Test
@@ -196,6 +204,20 @@ class CrudOperationsIT extends OrientDBTestBase {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    @DisplayName("existsById() should return false for deleted entity")
+    void testExistsByIdAfterDelete() {
+        // Given
+        TestPerson person = repository.save(new TestPerson("John", "Doe", 30));
+        repository.delete(person);
+
+        // When
+        boolean exists = repository.existsById(person.getId());
+
+        // Then
+        assertThat(exists).isFalse();
+    }
+
     @Test
     @DisplayName("saveAll() should persist multiple entities")
     void testSaveAll() {
@@ -214,6 +236,30 @@ class CrudOperationsIT extends OrientDBTestBase {
         assertThat(repository.count()).isEqualTo(3L);
     }
 
+    @Test
+    @DisplayName("saveAll() should persist entities across multiple batches")
+    void testSaveAllInBatches() {
+        // Given
+        List<TestPerson> people = List.of(
+            new TestPerson("John", "Doe", 30),
+            new TestPerson("Jane", "Smith", 25),
+            new TestPerson("Bob", "Johnson", 35),
+            new TestPerson("Alice", "Brown", 28),
+            new TestPerson("Charlie", "Davis", 40)
+        );
+
+        // When
+        List<TestPerson> saved = template.saveAll(people, 2);
+
+        // Then
+        assertThat(saved).hasSize(5);
+        assertThat(saved).extracting(TestPerson::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(saved)
+            .extracting(TestPerson::getFirstName)
+            .containsExactly("John", "Jane", "Bob", "Alice", "Charlie");
+        assertThat(countVertices("TestPerson")).isEqualTo(5L);
+    }
+
     @Test
     @DisplayName("findAllById() should retrieve multiple entities by IDs")
     void testFindAllById() {
@@ -234,6 +280,67 @@ class CrudOperationsIT extends OrientDBTestBase {
             .containsExactlyInAnyOrder("John", "Jane");
     }
 
+    @Test
+    @DisplayName("findAllById() should return entities in input order and skip missing IDs")
+    void testFindAllByIdPreservesOrder() {
+        // Given
+        TestPerson person1 = repository.save(new TestPerson("John", "Doe", 30));
+        TestPerson person2 = repository.save(new TestPerson("Jane", "Smith", 25));
+        TestPerson person3 = repository.save(new TestPerson("Bob", "Johnson", 35));
+        repository.delete(person2);
+
+        // When
+        List<TestPerson> found = repository.findAllById(
+            List.of(person3.getId(), person2.getId(), person1.getId())
+        );
+
+        // Then
+        assertThat(found)
+            .extracting(TestPerson::getFirstName)
+            .containsExactly("Bob", "John");
+    }
+
+    @Test
+    @DisplayName("save() and findById() should materialize records through their constructor")
+    void testSaveAndFindRecord() {
+        // When
+        TestAddress saved = template.save(new TestAddress(null, "Main Street", "Springfield", 42));
+        Optional<TestAddress> found = template.findById(saved.id(), TestAddress.class);
+
+        // Then
+        assertThat(saved.id()).isNotNull();
+        assertThat(found).contains(new TestAddress(saved.id(), "Main Street", "Springfield", 42));
+    }
+
+    @Test
+    @DisplayName("findById() should serve cached entities until they are written")
+    void testFindByIdUsesEntityCache() {
+        // Given
+        TestPerson saved = repository.save(new TestPerson("John", "Doe", 30));
+        template.setEntityCache(new OrientDBEntityCache(new ConcurrentMapCache(OrientDBEntityCache.CACHE_NAME)));
+        try {
+            repository.findById(saved.getId());
+
+            // When - a change bypassing the template is not seen while cached
+            executeCommand("UPDATE " + saved.getId() + " SET firstName = 'Johnny'");
+            TestPerson cached = repository.findById(saved.getId()).orElseThrow();
+
+            // Then
+            assertThat(cached.getFirstName()).isEqualTo("John");
+
+            // When - a write through the template evicts the entry
+            cached.setAge(31);
+            repository.save(cached);
+            TestPerson reloaded = repository.findById(saved.getId()).orElseThrow();
+
+            // Then
+            assertThat(reloaded.getAge()).isEqualTo(31);
+            assertThat(reloaded).isNotSameAs(repository.findById(saved.getId()).orElseThrow());
+        } finally {
+            template.setEntityCache(null);
+        }
+    }
+
     @Test
     @DisplayName("deleteAllById() should remove multiple entities")
     void testDeleteAllById() {
@@ -249,5 +356,34 @@ class CrudOperationsIT extends OrientDBTestBase {
         assertThat(repository.count()).isEqualTo(1L);
         assertThat(repository.existsById(person3.getId())).isTrue();
     }
-}
 
+    @Test
+    @DisplayName("deleteAll(entities) should remove only the given entities")
+    void testDeleteAllEntities() {
+        // Given
+        TestPerson person1 = repository.save(new TestPerson("John", "Doe", 30));
+        TestPerson person2 = repository.save(new TestPerson("Jane", "Smith", 25));
+        TestPerson person3 = repository.save(new TestPerson("Bob", "Johnson", 35));
+
+        // When
+        repository.deleteAll(List.of(person1, person3));
+
+        // Then
+        assertThat(repository.count()).isEqualTo(1L);
+        assertThat(repository.existsById(person2.getId())).isTrue();
+        assertThat(repository.findById(person1.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteAllById() should ignore empty ID lists")
+    void testDeleteAllByIdWithNoIds() {
+        // Given
+        repository.save(new TestPerson("John", "Doe", 30));
+
+        // When
+        repository.deleteAllById(List.of());
+
+        // Then
+        assertThat(repository.count()).isEqualTo(1L);
+    }
+}
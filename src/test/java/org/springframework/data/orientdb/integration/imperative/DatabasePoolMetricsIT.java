@@ -0,0 +1,58 @@
+package org.springframework.data.orientdb.integration.imperative;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orientdb.observability.InstrumentedDatabasePool;
+import org.springframework.data.orientdb.test.OrientDBTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the database pool metrics.
+ */
+@DisplayName("Database Pool Metrics Integration Tests")
+class DatabasePoolMetricsIT extends OrientDBTestBase {
+
+    @Autowired
+    private OrientDB orientDB;
+
+    @Test
+    @DisplayName("Instrumented pool should publish session usage and acquire times")
+    void testPublishesPoolMetrics() {
+        // Given
+        OrientDBConfig config = OrientDBConfig.builder()
+            .addConfig(OGlobalConfiguration.DB_POOL_MIN, 1)
+            .addConfig(OGlobalConfiguration.DB_POOL_MAX, 4)
+            .build();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (InstrumentedDatabasePool pool = new InstrumentedDatabasePool(orientDB, "testdb", "admin", "admin",
+                config, 4)) {
+            pool.bindTo(registry);
+
+            // When
+            ODatabaseSession first = pool.acquire();
+            ODatabaseSession second = pool.acquire();
+
+            // Then
+            assertThat(registry.get("orientdb.pool.sessions").tag("state", "active").gauge().value()).isEqualTo(2);
+            assertThat(registry.get("orientdb.pool.sessions").tag("state", "idle").gauge().value()).isEqualTo(2);
+            assertThat(registry.get("orientdb.pool.acquire").tag("pool", "testdb").timer().count()).isEqualTo(2);
+
+            // When
+            second.close();
+            first.activateOnCurrentThread();
+            first.close();
+
+            // Then
+            assertThat(pool.getActiveSessions()).isZero();
+            assertThat(pool.getPendingAcquires()).isZero();
+        }
+    }
+}
@@ -6,9 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.*;
 import org.springframework.data.orientdb.integration.shared.TestPerson;
+import org.springframework.data.orientdb.integration.shared.TestPersonName;
 import org.springframework.data.orientdb.integration.shared.TestPersonRepository;
 import org.springframework.data.orientdb.test.OrientDBTestBase;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -173,5 +175,110 @@ class PaginationAndSortingIT extends OrientDBTestBase {
         assertThat(page.getContent()).hasSize(25);
         assertThat(page.getTotalElements()).isEqualTo(25L);
     }
-}
 
+    @Test
+    @DisplayName("scroll(ScrollPosition) should walk all entities with keyset pagination")
+    void testScrollKeyset() {
+        // Given
+        Sort sort = Sort.by(Sort.Direction.DESC, "age");
+        List<TestPerson> all = new ArrayList<>();
+
+        // When
+        Window<TestPerson> window = repository.scroll(ScrollPosition.keyset(), sort, 10);
+        all.addAll(window.getContent());
+        while (window.hasNext()) {
+            window = repository.scroll(window.positionAt(window.size() - 1), sort, 10);
+            all.addAll(window.getContent());
+        }
+
+        // Then
+        assertThat(all).hasSize(25);
+        assertThat(all).extracting(TestPerson::getId).doesNotHaveDuplicates();
+        for (int i = 0; i < all.size() - 1; i++) {
+            assertThat(all.get(i).getAge())
+                .isGreaterThanOrEqualTo(all.get(i + 1).getAge());
+        }
+    }
+
+    @Test
+    @DisplayName("scroll(Example, ScrollPosition) should filter and scroll")
+    void testScrollExample() {
+        // Given
+        TestPerson probe = new TestPerson();
+        probe.setLastName("LastName1");
+        Example<TestPerson> example = Example.of(probe);
+
+        // When
+        Window<TestPerson> first = repository.scroll(example, ScrollPosition.keyset(), Sort.unsorted(), 3);
+        Window<TestPerson> second = repository.scroll(example, first.positionAt(first.size() - 1), Sort.unsorted(), 3);
+
+        // Then
+        assertThat(first.getContent()).hasSize(3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent()).allMatch(person -> "LastName1".equals(person.getLastName()));
+    }
+
+    @Test
+    @DisplayName("Derived Window query should scroll by keyset")
+    void testDerivedScrollQuery() {
+        // When
+        Window<TestPerson> first = repository.findFirst10ByActive(true, ScrollPosition.keyset());
+        Window<TestPerson> second = repository.findFirst10ByActive(true, first.positionAt(first.size() - 1));
+        Window<TestPerson> third = repository.findFirst10ByActive(true, second.positionAt(second.size() - 1));
+
+        // Then
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(second.getContent()).hasSize(10);
+        assertThat(third.getContent()).hasSize(5);
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Derived Window query should scroll projections by keyset")
+    void testDerivedProjectingScrollQuery() {
+        // When
+        Window<TestPersonName> first = repository.findFirst10NamesByActive(true, ScrollPosition.keyset());
+        Window<TestPersonName> second = repository.findFirst10NamesByActive(true, first.positionAt(first.size() - 1));
+        Window<TestPersonName> third = repository.findFirst10NamesByActive(true, second.positionAt(second.size() - 1));
+
+        // Then
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(first.getContent()).allMatch(name -> name.getFirstName().startsWith("Person"));
+        assertThat(second.getContent()).hasSize(10);
+        assertThat(third.getContent()).hasSize(5);
+        assertThat(third.hasNext()).isFalse();
+        assertThat(third.getContent()).extracting(TestPersonName::getLastName)
+            .allMatch(lastName -> lastName.startsWith("LastName"));
+    }
+
+    @Test
+    @DisplayName("Derived Slice query should detect the next slice without counting")
+    void testDerivedSliceQuery() {
+        // When
+        Slice<TestPerson> first = repository.findByActive(true, PageRequest.of(0, 10, Sort.by("age")));
+        Slice<TestPerson> last = repository.findByActive(true, PageRequest.of(2, 10, Sort.by("age")));
+
+        // Then
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(5);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Derived Page query should report the total")
+    void testDerivedPageQuery() {
+        // When
+        Page<TestPerson> first = repository.findByLastName("LastName1", PageRequest.of(0, 3));
+        Page<TestPerson> partial = repository.findByLastName("LastName1", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(first.getContent()).hasSize(3);
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        assertThat(partial.getContent()).hasSize(5);
+        assertThat(partial.getTotalElements()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,104 @@
+package org.springframework.data.orientdb.integration.imperative;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orientdb.core.OrientDBPoolWarmer;
+import org.springframework.data.orientdb.core.OrientDBTemplate;
+import org.springframework.data.orientdb.integration.shared.TestPerson;
+import org.springframework.data.orientdb.observability.InstrumentedDatabasePool;
+import org.springframework.data.orientdb.test.OrientDBTestBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for the pool warmer.
+ */
+@DisplayName("Pool Warmer Integration Tests")
+class PoolWarmerIT extends OrientDBTestBase {
+
+    private static final int POOL_MIN = 3;
+
+    private static final int POOL_MAX = 4;
+
+    @Autowired
+    private OrientDB orientDB;
+
+    @Autowired
+    private OrientDBTemplate template;
+
+    @Test
+    @DisplayName("Warm-up should open the minimum pool size of sessions and release them")
+    void testOpensAndReleasesPoolMinSessions() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (InstrumentedDatabasePool pool = new InstrumentedDatabasePool(orientDB, "testdb", "admin", "admin",
+                poolConfig(), POOL_MAX)) {
+            pool.bindTo(registry);
+            OrientDBPoolWarmer warmer = new OrientDBPoolWarmer(pool, template, POOL_MIN);
+
+            // When
+            warmer.warmUp();
+
+            // Then
+            assertThat(registry.get("orientdb.pool.acquire").tag("pool", "testdb").timer().count())
+                .isEqualTo(POOL_MIN);
+            assertThat(pool.getActiveSessions()).isZero();
+            assertThat(pool.getPendingAcquires()).isZero();
+
+            // And the pool still serves sessions
+            try (ODatabaseSession session = pool.acquire()) {
+                assertThat(session.isClosed()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Warm-up should run the configured query once per existing vertex class")
+    void testRunsWarmUpQueryPerVertexClass() {
+        // Given
+        executeCommand("CREATE CLASS TestPerson IF NOT EXISTS EXTENDS V");
+        template.getMappingContext().getPersistentEntity(TestPerson.class);
+        List<ODatabaseSession> acquired = new ArrayList<>();
+
+        try (ODatabasePool pool = new ODatabasePool(orientDB, "testdb", "admin", "admin", poolConfig()) {
+            @Override
+            public ODatabaseSession acquire() {
+                ODatabaseSession session = spy(super.acquire());
+                acquired.add(session);
+                return session;
+            }
+        }) {
+            OrientDBPoolWarmer warmer = new OrientDBPoolWarmer(pool, template, POOL_MIN);
+            warmer.setWarmUpQuery("SELECT FROM %s LIMIT 1");
+
+            // When
+            warmer.warmUp();
+
+            // Then
+            assertThat(acquired).hasSize(POOL_MIN);
+            verify(acquired.get(POOL_MIN - 1), times(1)).query("SELECT FROM TestPerson LIMIT 1");
+            for (ODatabaseSession session : acquired) {
+                verify(session).close();
+            }
+        }
+    }
+
+    private static OrientDBConfig poolConfig() {
+        return OrientDBConfig.builder()
+            .addConfig(OGlobalConfiguration.DB_POOL_MIN, POOL_MIN)
+            .addConfig(OGlobalConfiguration.DB_POOL_MAX, POOL_MAX)
+            .build();
+    }
+}
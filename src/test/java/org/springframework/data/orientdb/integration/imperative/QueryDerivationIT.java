@@ -4,12 +4,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orientdb.core.OrientDBTemplate;
 import org.springframework.data.orientdb.integration.shared.TestPerson;
+import org.springframework.data.orientdb.integration.shared.TestPersonFullName;
+import org.springframework.data.orientdb.integration.shared.TestPersonName;
 import org.springframework.data.orientdb.integration.shared.TestPersonRepository;
+import org.springframework.data.orientdb.observability.OrientDBQueryStatistics;
+import org.springframework.data.orientdb.observability.OrientDBQueryStatistics.QueryStatistics;
 import org.springframework.data.orientdb.test.OrientDBTestBase;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -23,6 +29,9 @@ class QueryDerivationIT extends OrientDBTestBase {
     @Autowired
     private TestPersonRepository repository;
 
+    @Autowired
+    private OrientDBTemplate template;
+
     @BeforeEach
     void setupTestData() {
         executeCommand("CREATE CLASS TestPerson IF NOT EXISTS EXTENDS V");
@@ -235,6 +244,95 @@ class QueryDerivationIT extends OrientDBTestBase {
         assertThat(notExists).isFalse();
     }
 
+    @Test
+    @DisplayName("Count and exists queries should be recorded in the query statistics")
+    void testCountAndExistsQueriesAreRecorded() {
+        // Given
+        OrientDBQueryStatistics statistics = new OrientDBQueryStatistics();
+        template.setQueryStatistics(statistics);
+        try {
+            // When
+            repository.countByActive(true);
+            repository.existsByFirstName("John");
+
+            // Then
+            assertThat(statistics.getStatistics())
+                .extracting(QueryStatistics::fingerprint)
+                .anyMatch(fingerprint -> fingerprint.contains("count(*)"))
+                .anyMatch(fingerprint -> fingerprint.startsWith("SELECT @rid FROM TestPerson"));
+        } finally {
+            template.setQueryStatistics(null);
+        }
+    }
+
+    @Test
+    @DisplayName("streamByLastName() should stream matching people")
+    void testStreamByLastName() {
+        // When
+        List<String> firstNames;
+        try (Stream<TestPerson> stream = repository.streamByLastName("Doe")) {
+            firstNames = stream.map(TestPerson::getFirstName).toList();
+        }
+
+        // Then
+        assertThat(firstNames).containsExactlyInAnyOrder("John", "Jane");
+    }
+
+    @Test
+    @DisplayName("streamNamesByLastName() should stream projections")
+    void testStreamProjectionByLastName() {
+        // When
+        List<String> firstNames;
+        try (Stream<TestPersonName> stream = repository.streamNamesByLastName("Doe")) {
+            firstNames = stream.map(TestPersonName::getFirstName).toList();
+        }
+
+        // Then
+        assertThat(firstNames).containsExactlyInAnyOrder("John", "Jane");
+    }
+
+    @Test
+    @DisplayName("streamAll() should stream all people")
+    void testStreamAll() {
+        // When
+        long count;
+        try (Stream<TestPerson> stream = repository.streamAll()) {
+            count = stream.count();
+        }
+
+        // Then
+        assertThat(count).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Projection query should select only the projected properties")
+    void testFindProjectionByLastName() {
+        // When
+        List<TestPersonName> found = repository.findNamesByLastNameOrderByFirstNameAsc("Doe");
+
+        // Then
+        assertThat(found)
+            .extracting(TestPersonName::getFirstName)
+            .containsExactly("Jane", "John");
+        assertThat(found)
+            .allSatisfy(name -> {
+                assertThat(name.getLastName()).isEqualTo("Doe");
+                assertThat(name.getId()).startsWith("#");
+            });
+    }
+
+    @Test
+    @DisplayName("Open projection query should select the properties its expressions read")
+    void testFindOpenProjectionByLastName() {
+        // When
+        List<TestPersonFullName> found = repository.findFullNamesByLastNameOrderByFirstNameAsc("Doe");
+
+        // Then
+        assertThat(found)
+            .extracting(TestPersonFullName::getFullName)
+            .containsExactly("Jane Doe", "John Doe");
+    }
+
     @Test
     @DisplayName("deleteByActive() should delete all inactive people")
     void testDeleteByActive() {
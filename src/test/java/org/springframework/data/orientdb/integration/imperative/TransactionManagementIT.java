@@ -4,10 +4,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.orientdb.integration.shared.TestPerson;
 import org.springframework.data.orientdb.integration.shared.TestPersonRepository;
 import org.springframework.data.orientdb.test.OrientDBTestBase;
+import org.springframework.data.orientdb.transaction.OrientDBTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.UnexpectedRollbackException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -193,5 +198,87 @@ class TransactionManagementIT extends OrientDBTestBase {
         repository.deleteById(id);
         throw new RuntimeException("Rollback delete");
     }
-}
 
+    @Test
+    @DisplayName("Read-only transaction should read without allowing writes")
+    void testReadOnlyTransaction() {
+        // Given
+        repository.save(new TestPerson("John", "Doe", 30));
+        TransactionTemplate readOnly = new TransactionTemplate(new OrientDBTransactionManager(databasePool));
+        readOnly.setReadOnly(true);
+
+        // When
+        long count = readOnly.execute(status -> repository.count());
+
+        // Then
+        assertThat(count).isEqualTo(1L);
+        assertThatThrownBy(() -> readOnly.executeWithoutResult(
+                status -> repository.save(new TestPerson("Jane", "Smith", 25))))
+            .isInstanceOf(InvalidDataAccessApiUsageException.class);
+        assertThat(repository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("REQUIRES_NEW transaction should commit independently of the outer transaction")
+    void testRequiresNewTransaction() {
+        // Given
+        OrientDBTransactionManager transactionManager = new OrientDBTransactionManager(databasePool);
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // When
+        assertThatThrownBy(() -> outer.executeWithoutResult(status -> {
+            repository.save(new TestPerson("Outer", "Person", 30));
+            inner.executeWithoutResult(innerStatus -> repository.save(new TestPerson("Inner", "Person", 25)));
+            repository.save(new TestPerson("Outer2", "Person", 35));
+            throw new IllegalStateException("Rollback outer");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(repository.findAll())
+            .extracting(TestPerson::getFirstName)
+            .containsExactly("Inner");
+    }
+
+    @Test
+    @DisplayName("Nested transaction should commit with the outer transaction")
+    void testNestedPropagation() {
+        // Given
+        OrientDBTransactionManager transactionManager = new OrientDBTransactionManager(databasePool);
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate nested = new TransactionTemplate(transactionManager);
+        nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        // When
+        outer.executeWithoutResult(status -> {
+            repository.save(new TestPerson("Outer", "Person", 30));
+            nested.executeWithoutResult(nestedStatus -> repository.save(new TestPerson("Nested", "Person", 25)));
+        });
+
+        // Then
+        assertThat(repository.count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Nested rollback should roll back the outer transaction")
+    void testNestedPropagationRollback() {
+        // Given
+        OrientDBTransactionManager transactionManager = new OrientDBTransactionManager(databasePool);
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate nested = new TransactionTemplate(transactionManager);
+        nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        // When
+        assertThatThrownBy(() -> outer.executeWithoutResult(status -> {
+            repository.save(new TestPerson("Outer", "Person", 30));
+            nested.executeWithoutResult(nestedStatus -> {
+                repository.save(new TestPerson("Nested", "Person", 25));
+                nestedStatus.setRollbackOnly();
+            });
+        })).isInstanceOf(UnexpectedRollbackException.class);
+
+        // Then
+        assertThat(repository.count()).isZero();
+    }
+}
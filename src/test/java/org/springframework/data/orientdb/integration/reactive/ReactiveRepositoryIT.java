@@ -0,0 +1,164 @@
+package org.springframework.data.orientdb.integration.reactive;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb.integration.shared.ReactiveTestPersonRepository;
+import org.springframework.data.orientdb.integration.shared.TestPerson;
+import org.springframework.data.orientdb.integration.shared.TestPersonName;
+import org.springframework.data.orientdb.test.OrientDBTestBase;
+
+import java.time.Duration;
+import java.util.List;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for reactive repositories.
+ * Tests CRUD operations, streamed and derived queries.
+ */
+@DisplayName("Reactive Repository Integration Tests")
+class ReactiveRepositoryIT extends OrientDBTestBase {
+
+    @Autowired
+    private ReactiveTestPersonRepository repository;
+
+    @BeforeEach
+    void setupTestData() {
+        executeCommand("CREATE CLASS TestPerson IF NOT EXISTS EXTENDS V");
+        
+        repository.saveAll(List.of(
+            new TestPerson("John", "Doe", 30),
+            new TestPerson("Jane", "Doe", 25),
+            new TestPerson("Bob", "Smith", 35))).blockLast();
+    }
+
+    @Test
+    @DisplayName("save() and findById() should round trip an entity")
+    void testSaveAndFindById() {
+        // When
+        TestPerson saved = repository.save(new TestPerson("Alice", "Johnson", 28)).block();
+
+        // Then
+        assertThat(saved.getId()).isNotNull();
+        StepVerifier.create(repository.findById(saved.getId()))
+            .assertNext(found -> assertThat(found.getFirstName()).isEqualTo("Alice"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findAll() should stream all entities on demand")
+    void testFindAllWithBackpressure() {
+        StepVerifier.create(repository.findAll(), 1)
+            .expectNextCount(1)
+            .thenRequest(2)
+            .expectNextCount(2)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Cancelling a streamed query should release its session")
+    void testCancelReleasesSession() {
+        // When
+        StepVerifier.create(repository.findAll(), 1)
+            .expectNextCount(1)
+            .thenCancel()
+            .verify();
+
+        // Then
+        StepVerifier.create(repository.count())
+            .expectNext(3L)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Cancelling with take(1) should leave the pool healthy")
+    void testTakeReleasesSessionsToPool() {
+        // Given
+        int iterations = OGlobalConfiguration.DB_POOL_MAX.getValueAsInteger() + 1;
+
+        // When
+        for (int i = 0; i < iterations; i++) {
+            StepVerifier.create(repository.findAll().take(1))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+        }
+
+        // Then
+        try (ODatabaseSession session = databasePool.acquire()) {
+            assertThat(session.isActiveOnCurrentThread()).isTrue();
+            assertThat(session.isClosed()).isFalse();
+        }
+        StepVerifier.create(repository.count())
+            .expectNext(3L)
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Derived queries should return Mono and Flux results")
+    void testDerivedQueries() {
+        StepVerifier.create(repository.findByFirstName("Jane"))
+            .assertNext(person -> assertThat(person.getAge()).isEqualTo(25))
+            .verifyComplete();
+
+        StepVerifier.create(repository.findByLastName("Doe", Sort.by("firstName")).map(TestPerson::getFirstName))
+            .expectNext("Jane", "John")
+            .verifyComplete();
+
+        StepVerifier.create(repository.findByAgeGreaterThan(28).map(TestPerson::getFirstName).collectList())
+            .assertNext(names -> assertThat(names).containsExactlyInAnyOrder("John", "Bob"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Derived projection queries should emit projections")
+    void testDerivedProjection() {
+        StepVerifier.create(repository.findNamesByLastNameOrderByFirstNameAsc("Doe").map(TestPersonName::getFirstName))
+            .expectNext("Jane", "John")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Derived count, exists and delete queries should emit their result")
+    void testDerivedCountExistsAndDelete() {
+        StepVerifier.create(repository.countByLastName("Doe"))
+            .expectNext(2L)
+            .verifyComplete();
+
+        StepVerifier.create(repository.existsByFirstName("Bob"))
+            .expectNext(true)
+            .verifyComplete();
+
+        StepVerifier.create(repository.deleteByLastName("Doe"))
+            .expectNext(2L)
+            .verifyComplete();
+
+        StepVerifier.create(repository.count())
+            .expectNext(1L)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Declared queries should stream their results")
+    void testDeclaredQuery() {
+        StepVerifier.create(repository.findYoungerThan(31).map(TestPerson::getFirstName).collectList())
+            .assertNext(names -> assertThat(names).containsExactlyInAnyOrder("John", "Jane"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("deleteAll() should remove all entities")
+    void testDeleteAll() {
+        StepVerifier.create(repository.deleteAll().then(repository.count()))
+            .expectNext(0L)
+            .verifyComplete();
+    }
+}
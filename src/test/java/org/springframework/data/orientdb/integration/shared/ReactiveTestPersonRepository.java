@@ -0,0 +1,33 @@
+package org.springframework.data.orientdb.integration.shared;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb.repository.ReactiveOrientDBRepository;
+import org.springframework.data.orientdb.repository.query.Query;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive test repository for TestPerson entity.
+ */
+@Repository
+public interface ReactiveTestPersonRepository extends ReactiveOrientDBRepository<TestPerson, String> {
+
+    Mono<TestPerson> findByFirstName(String firstName);
+
+    Flux<TestPerson> findByLastName(String lastName, Sort sort);
+
+    Flux<TestPerson> findByAgeGreaterThan(Integer age);
+
+    Flux<TestPersonName> findNamesByLastNameOrderByFirstNameAsc(String lastName);
+
+    Mono<Long> countByLastName(String lastName);
+
+    Mono<Boolean> existsByFirstName(String firstName);
+
+    Mono<Long> deleteByLastName(String lastName);
+
+    @Query("SELECT FROM TestPerson WHERE age < ?")
+    Flux<TestPerson> findYoungerThan(Integer age);
+}
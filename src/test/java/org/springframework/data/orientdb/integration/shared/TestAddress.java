@@ -0,0 +1,7 @@
+package org.springframework.data.orientdb.integration.shared;
+
+/**
+ * Immutable test entity materialized through its canonical record constructor.
+ */
+public record TestAddress(String id, String street, String city, int number) {
+}
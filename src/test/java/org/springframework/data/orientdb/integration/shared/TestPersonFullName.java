@@ -0,0 +1,14 @@
+package org.springframework.data.orientdb.integration.shared;
+
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Open interface projection of {@link TestPerson} combining plain and SpEL-computed properties.
+ */
+public interface TestPersonFullName {
+
+    String getFirstName();
+
+    @Value("#{target.firstName + ' ' + target.lastName}")
+    String getFullName();
+}
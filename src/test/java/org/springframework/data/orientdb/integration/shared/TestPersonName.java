@@ -0,0 +1,13 @@
+package org.springframework.data.orientdb.integration.shared;
+
+/**
+ * Closed interface projection of {@link TestPerson} exposing only the names.
+ */
+public interface TestPersonName {
+
+    String getId();
+
+    String getFirstName();
+
+    String getLastName();
+}
@@ -1,10 +1,16 @@
 package org.springframework.data.orientdb.integration.shared;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.orientdb.repository.OrientDBRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Test repository for TestPerson entity.
@@ -38,6 +44,26 @@ public interface TestPersonRepository extends OrientDBRepository<TestPerson, Str
     
     List<TestPerson> findByFirstNameEndingWith(String suffix);
     
+    // Projection queries
+    List<TestPersonName> findNamesByLastNameOrderByFirstNameAsc(String lastName);
+    
+    List<TestPersonFullName> findFullNamesByLastNameOrderByFirstNameAsc(String lastName);
+    
+    // Slice and page queries
+    Slice<TestPerson> findByActive(Boolean active, Pageable pageable);
+    
+    Page<TestPerson> findByLastName(String lastName, Pageable pageable);
+    
+    // Scroll queries
+    Window<TestPerson> findFirst10ByActive(Boolean active, ScrollPosition position);
+    
+    Window<TestPersonName> findFirst10NamesByActive(Boolean active, ScrollPosition position);
+    
+    // Stream queries
+    Stream<TestPerson> streamByLastName(String lastName);
+    
+    Stream<TestPersonName> streamNamesByLastName(String lastName);
+    
     // Count queries
     long countByActive(Boolean active);
     
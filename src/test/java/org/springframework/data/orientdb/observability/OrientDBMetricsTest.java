@@ -0,0 +1,75 @@
+package org.springframework.data.orientdb.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.orientdb.integration.shared.TestPerson;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the tagged operation timers.
+ */
+@DisplayName("OrientDB Metrics Tests")
+class OrientDBMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OrientDBMetrics metrics = new OrientDBMetrics(registry);
+
+    @Test
+    @DisplayName("Operations should be timed by entity, method and outcome")
+    void testRecordsTaggedTimers() {
+        // When
+        String result = metrics.record(OrientDBMetrics.Operation.QUERY, TestPerson.class,
+            "TestPersonRepository.findByLastName", () -> "result");
+        assertThatThrownBy(() -> metrics.record(OrientDBMetrics.Operation.QUERY, TestPerson.class,
+            "TestPersonRepository.findByLastName", () -> {
+                throw new IllegalStateException("failed");
+            })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(result).isEqualTo("result");
+        Timer success = registry.get("orientdb.repository.query.time")
+            .tag("entity", "TestPerson")
+            .tag("method", "TestPersonRepository.findByLastName")
+            .tag("outcome", "success")
+            .timer();
+        Timer error = registry.get("orientdb.repository.query.time")
+            .tag("outcome", "error")
+            .timer();
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(error.count()).isEqualTo(1);
+        assertThat(registry.get("orientdb.repository.queries").counter().count()).isEqualTo(2);
+        assertThat(registry.get("orientdb.repository.errors").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Timing methods should only record the timer and leave counting to the counting methods")
+    void testTimingMethodsDoNotCount() {
+        // When
+        metrics.recordSave();
+        metrics.recordSaveTime(() -> "saved");
+
+        // Then
+        assertThat(registry.get("orientdb.repository.save.time").timer().count()).isEqualTo(1);
+        assertThat(registry.get("orientdb.repository.saves").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Methods beyond the timer limit should be folded into a single timer")
+    void testBoundsTimerCardinality() {
+        // Given
+        metrics.setMaximumTimers(2);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            metrics.record(OrientDBMetrics.Operation.FIND, TestPerson.class, "method" + i, () -> null);
+        }
+
+        // Then
+        assertThat(registry.find("orientdb.repository.find.time").timers()).hasSize(3);
+        assertThat(registry.get("orientdb.repository.find.time").tag("method", "other").timer().count())
+            .isEqualTo(8);
+    }
+}
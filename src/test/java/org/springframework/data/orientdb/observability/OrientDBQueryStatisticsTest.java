@@ -0,0 +1,62 @@
+package org.springframework.data.orientdb.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the query fingerprint statistics.
+ */
+@DisplayName("Query Statistics Tests")
+class OrientDBQueryStatisticsTest {
+
+    private final OrientDBQueryStatistics statistics = new OrientDBQueryStatistics();
+
+    @Test
+    @DisplayName("Literals should be normalized out of fingerprints")
+    void testFingerprint() {
+        assertThat(OrientDBQueryStatistics.fingerprint("SELECT FROM Person WHERE name = 'O''Brien' AND age > 42"))
+            .isEqualTo("SELECT FROM Person WHERE name = ? AND age > ?");
+        assertThat(OrientDBQueryStatistics.fingerprint("SELECT  FROM [#12:0, #12:1, #13:7]"))
+            .isEqualTo("SELECT FROM [?]");
+        assertThat(OrientDBQueryStatistics.fingerprint("SELECT FROM Person2 WHERE status IN (?, ?, ?) LIMIT 10"))
+            .isEqualTo("SELECT FROM Person2 WHERE status IN (?) LIMIT ?");
+    }
+
+    @Test
+    @DisplayName("Executions should be aggregated per fingerprint")
+    void testAggregatesPerFingerprint() {
+        // When
+        statistics.record("SELECT FROM Person WHERE age > 18", null, 2_000_000, 5);
+        statistics.record("SELECT FROM Person WHERE age > 21", null, 6_000_000, 3);
+        statistics.record("SELECT FROM Address", null, 1_000_000, 1);
+
+        // Then
+        assertThat(statistics.getTopQueries(1)).singleElement().satisfies(top -> {
+            assertThat(top.fingerprint()).isEqualTo("SELECT FROM Person WHERE age > ?");
+            assertThat(top.count()).isEqualTo(2);
+            assertThat(top.totalTimeNanos()).isEqualTo(8_000_000);
+            assertThat(top.maxTimeNanos()).isEqualTo(6_000_000);
+            assertThat(top.rows()).isEqualTo(8);
+        });
+        assertThat(statistics.getFingerprintCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Fingerprints beyond the maximum should be aggregated together")
+    void testBoundsFingerprints() {
+        // Given
+        statistics.setMaximumFingerprints(1);
+
+        // When
+        statistics.record("SELECT FROM Person", null, 1, 0);
+        statistics.record("SELECT FROM Address", null, 1, 0);
+        statistics.record("SELECT FROM Company", null, 1, 0);
+
+        // Then
+        assertThat(statistics.getStatistics())
+            .extracting(OrientDBQueryStatistics.QueryStatistics::fingerprint)
+            .containsExactlyInAnyOrder("SELECT FROM Person", OrientDBQueryStatistics.OTHER);
+    }
+}
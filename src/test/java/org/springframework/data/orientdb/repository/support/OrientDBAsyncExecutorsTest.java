@@ -0,0 +1,69 @@
+package org.springframework.data.orientdb.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the async repository executors.
+ */
+@DisplayName("OrientDB Async Executors Tests")
+class OrientDBAsyncExecutorsTest {
+
+    @Test
+    @DisplayName("Platform executor should not run more tasks at once than its limit")
+    void testPlatformExecutorLimitsConcurrency() throws Exception {
+        assertThat(runConcurrently(OrientDBAsyncExecutors.createPlatform(4), 50)).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("Default executor should not run more tasks at once than its limit")
+    void testDefaultExecutorLimitsConcurrency() throws Exception {
+        assertThat(runConcurrently(OrientDBAsyncExecutors.create(4), 50)).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("Executors should name their threads")
+    void testThreadNames() throws Exception {
+        String threadName = CompletableFuture
+            .supplyAsync(() -> Thread.currentThread().getName(), OrientDBAsyncExecutors.getDefault())
+            .get(10, TimeUnit.SECONDS);
+
+        assertThat(threadName).startsWith(OrientDBAsyncExecutors.THREAD_NAME_PREFIX);
+    }
+
+    @Test
+    @DisplayName("Executors should reject a non-positive limit")
+    void testRejectsInvalidLimit() {
+        assertThatIllegalArgumentException().isThrownBy(() -> OrientDBAsyncExecutors.create(0));
+    }
+
+    private static int runConcurrently(AsyncTaskExecutor executor, int tasks) throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < tasks; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        return maxRunning.get();
+    }
+}
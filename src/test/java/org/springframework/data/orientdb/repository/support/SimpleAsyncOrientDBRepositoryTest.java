@@ -0,0 +1,101 @@
+package org.springframework.data.orientdb.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.orientdb.core.OrientDBOperations;
+import org.springframework.data.orientdb.repository.AsyncBatchException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the chunked batch operations of async repositories.
+ */
+@DisplayName("Simple Async OrientDB Repository Tests")
+class SimpleAsyncOrientDBRepositoryTest {
+
+    private final OrientDBOperations operations = mock(OrientDBOperations.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private SimpleAsyncOrientDBRepository<String, String> repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = new SimpleAsyncOrientDBRepository<>(mock(OrientDBEntityInformation.class), operations);
+        repository.setAsyncExecutor(executor);
+        repository.setBatchChunkSize(2);
+        repository.setBatchParallelism(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("saveAllAsync() should save chunks separately and keep the input order")
+    void testSaveAllAsyncInChunks() throws Exception {
+        // Given
+        when(operations.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<String> saved = new ArrayList<>();
+            invocation.<Iterable<String>>getArgument(0).forEach(entity -> saved.add(entity.toUpperCase()));
+            return saved;
+        });
+        List<String> entities = IntStream.range(0, 7).mapToObj(i -> "entity" + i).toList();
+
+        // When
+        List<String> saved = repository.saveAllAsync(entities).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(saved).containsExactlyElementsOf(entities.stream().map(String::toUpperCase).toList());
+        verify(operations, times(4)).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Failed chunks should be reported together without stopping the others")
+    void testReportsFailedChunks() {
+        // Given
+        when(operations.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<String> chunk = new ArrayList<>();
+            invocation.<Iterable<String>>getArgument(0).forEach(chunk::add);
+            if (chunk.contains("entity2") || chunk.contains("entity6")) {
+                throw new DataIntegrityViolationException("Invalid " + chunk);
+            }
+            return chunk;
+        });
+        List<String> entities = IntStream.range(0, 7).mapToObj(i -> "entity" + i).toList();
+
+        // When / Then
+        assertThatThrownBy(() -> repository.saveAllAsync(entities).get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .cause()
+            .isInstanceOfSatisfying(AsyncBatchException.class, e -> {
+                assertThat(e.getChunkCount()).isEqualTo(4);
+                assertThat(e.getFailures())
+                    .extracting(AsyncBatchException.ChunkFailure::chunk, AsyncBatchException.ChunkFailure::offset,
+                        AsyncBatchException.ChunkFailure::size)
+                    .containsExactly(tuple(1, 2, 2), tuple(3, 6, 1));
+                assertThat(e.getCause()).isInstanceOf(DataIntegrityViolationException.class);
+            });
+        verify(operations, times(4)).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Batch operations on empty input should complete immediately")
+    void testEmptyInput() throws Exception {
+        assertThat(repository.findAllByIdAsync(List.of()).get(10, TimeUnit.SECONDS)).isEmpty();
+        verifyNoInteractions(operations);
+    }
+}
@@ -6,8 +6,9 @@ import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.orientdb.config.AbstractOrientDBConfiguration;
+import org.springframework.data.orientdb.config.AbstractReactiveOrientDBConfiguration;
 import org.springframework.data.orientdb.repository.config.EnableOrientDBRepositories;
+import org.springframework.data.orientdb.repository.config.EnableReactiveOrientDBRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
@@ -16,8 +17,9 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  */
 @Configuration
 @EnableOrientDBRepositories(basePackages = "org.springframework.data.orientdb.integration")
+@EnableReactiveOrientDBRepositories(basePackages = "org.springframework.data.orientdb.integration")
 @EnableTransactionManagement
-public class OrientDBTestConfiguration extends AbstractOrientDBConfiguration {
+public class OrientDBTestConfiguration extends AbstractReactiveOrientDBConfiguration {
 
     private static final String DATABASE_NAME = "testdb";
     
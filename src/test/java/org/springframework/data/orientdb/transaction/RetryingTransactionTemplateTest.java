@@ -0,0 +1,81 @@
+package org.springframework.data.orientdb.transaction;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for retrying transactional units on conflicts.
+ */
+@DisplayName("Retrying Transaction Template Tests")
+class RetryingTransactionTemplateTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RetryingTransactionTemplate template = new RetryingTransactionTemplate(transactionManager);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        template.setInitialBackoff(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Conflicts should be retried until the unit succeeds")
+    void testRetriesConflicts() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = template.execute(status -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(3);
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Conflicts should be propagated once the attempts are exhausted")
+    void testGivesUpAfterMaxAttempts() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        template.setMaxAttempts(2);
+
+        // When / Then
+        assertThatThrownBy(() -> template.executeWithoutResult(status -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Other failures should not be retried")
+    void testDoesNotRetryOtherFailures() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(() -> template.executeWithoutResult(status -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("failure");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts).hasValue(1);
+    }
+}